@@ -0,0 +1,80 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.Name;
+import seedu.address.model.meeting.Meeting;
+import seedu.address.model.meeting.Title;
+import seedu.address.model.util.SampleDataUtil;
+
+/**
+ * Benchmarks adding contacts and meetings to address books of different sizes.
+ * Each benchmark removes what it added, so the book keeps its size from one invocation to the next.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AddressBookBenchmark {
+
+    private Contact contact;
+    private Meeting meeting;
+
+    /**
+     * Creates a contact and a meeting that are not in any generated address book, as generated names and titles
+     * are different.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        Contact sampleContact = SampleDataUtil.getSampleContacts()[0];
+        contact = new Contact(new Name("Benchmark Contact"), sampleContact.getPhone(), sampleContact.getEmail(),
+            SampleDataUtil.getNoteList("Added by the benchmark"));
+        Meeting sampleMeeting = SampleDataUtil.getSampleMeetings()[0];
+        meeting = new Meeting(new Title("Benchmark Meeting"), sampleMeeting.getTime(), sampleMeeting.getPlace(),
+            sampleMeeting.getDescription(), SampleDataUtil.getNoteList("Added by the benchmark"),
+            new ArrayList<>(List.of(contact)));
+    }
+
+    /**
+     * Adds a contact and removes it again.
+     */
+    @Benchmark
+    public AddressBook addContact(AddressBookState state) {
+        AddressBook addressBook = state.addressBook;
+        addressBook.addContact(contact);
+        addressBook.removeContact(contact);
+        addressBook.clearChanges();
+        return addressBook;
+    }
+
+    /**
+     * Adds a meeting and removes it again.
+     */
+    @Benchmark
+    public AddressBook addMeeting(AddressBookState state) {
+        AddressBook addressBook = state.addressBook;
+        addressBook.addMeeting(meeting);
+        addressBook.removeMeeting(meeting);
+        addressBook.clearChanges();
+        return addressBook;
+    }
+
+}
@@ -0,0 +1,36 @@
+package seedu.address.benchmark;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.util.SyntheticDataGenerator;
+
+/**
+ * An address book generated by {@link SyntheticDataGenerator} for each combination of book size parameters.
+ * Narrow the parameters for a run with JMH's {@code -p}, e.g. {@code -p contacts=1000,10000}.
+ */
+@State(Scope.Benchmark)
+public class AddressBookState {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    protected int contacts;
+
+    @Param({"0", "1", "5"})
+    protected int meetingsPerContact;
+
+    @Param({"0", "3"})
+    protected int meanNotes;
+
+    protected AddressBook addressBook;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        addressBook = new SyntheticDataGenerator(SyntheticDataGenerator.DEFAULT_SEED)
+            .generate(contacts, contacts * meetingsPerContact, meanNotes);
+    }
+
+}
@@ -0,0 +1,89 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.contact.ContactFilterPredicate;
+import seedu.address.model.meeting.MeetingFilterPredicate;
+import seedu.address.model.meeting.Time;
+import seedu.address.model.search.KeywordMatcher;
+
+/**
+ * Benchmarks the filters of the {@code list} commands on address books of different sizes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FilterBenchmark {
+
+    private static final KeywordMatcher ANY = KeywordMatcher.compile(List.of(""));
+
+    private final ContactFilterPredicate contactNameFilter =
+        new ContactFilterPredicate(KeywordMatcher.compile(List.of("bernice")), "", "", ANY);
+    private final ContactFilterPredicate contactNoteFilter =
+        new ContactFilterPredicate(ANY, "", "", KeywordMatcher.compile(List.of("allergic")));
+    private final MeetingFilterPredicate meetingTimeFilter = new MeetingFilterPredicate(ANY,
+        new Time("01/01/2023 09:00"), new Time("01/01/2023 10:00"), ANY, ANY, ANY);
+
+    private Model model;
+
+    @Setup(Level.Trial)
+    public void setUp(AddressBookState state) {
+        model = new ModelManager(state.addressBook, new UserPrefs());
+    }
+
+    /**
+     * Filters the contacts by a first name that few of them have.
+     */
+    @Benchmark
+    public int filterContactsByName() {
+        model.updateFilteredContactList(contactNameFilter);
+        return model.getFilteredContactList().size();
+    }
+
+    /**
+     * Filters the contacts by a note that some of them have.
+     */
+    @Benchmark
+    public int filterContactsByNote() {
+        model.updateFilteredContactList(contactNoteFilter);
+        return model.getFilteredContactList().size();
+    }
+
+    /**
+     * Filters the meetings by a one hour time range.
+     */
+    @Benchmark
+    public int filterMeetingsByTime() {
+        model.updateFilteredMeetingList(meetingTimeFilter);
+        return model.getFilteredMeetingList().size();
+    }
+
+    /**
+     * Ranks the contacts by their similarity to a misspelt name.
+     */
+    @Benchmark
+    public int rankContacts() {
+        model.rankFilteredContactList(Model.PREDICATE_SHOW_ALL_CONTACTS, "Bernise Yu");
+        return model.getFilteredContactList().size();
+    }
+
+}
@@ -0,0 +1,60 @@
+package seedu.address.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.ui.storage.JsonSerializableAddressBook;
+
+/**
+ * Benchmarks converting address books of different sizes to and from JSON.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class StorageBenchmark {
+
+    private JsonSerializableAddressBook serializableAddressBook;
+    private String json;
+
+    /**
+     * Converts the generated address book to JSON once, for the benchmarks that read it back.
+     */
+    @Setup(Level.Trial)
+    public void setUp(AddressBookState state) throws Exception {
+        serializableAddressBook = new JsonSerializableAddressBook(state.addressBook);
+        json = JsonUtil.toJsonString(serializableAddressBook);
+    }
+
+    @Benchmark
+    public String toJson(AddressBookState state) throws Exception {
+        return JsonUtil.toJsonString(new JsonSerializableAddressBook(state.addressBook));
+    }
+
+    @Benchmark
+    public JsonSerializableAddressBook fromJson() throws Exception {
+        return JsonUtil.fromJsonString(json, JsonSerializableAddressBook.class);
+    }
+
+    @Benchmark
+    public AddressBook toModelType() throws IllegalValueException {
+        return serializableAddressBook.toModelType();
+    }
+
+}
@@ -0,0 +1,63 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.AddressBook;
+import seedu.address.model.util.SyntheticDataGenerator;
+import seedu.address.ui.storage.JsonAddressBookStorage;
+
+/**
+ * Writes a data file filled by {@link SyntheticDataGenerator}, to load-test the app with an address book of any
+ * size.
+ * <p>
+ * Usage: {@code DataGenerator FILE [CONTACTS] [MEETINGS] [MEAN_NOTES] [SEED]}, e.g.
+ * {@code ./gradlew generateData -PgenerateArgs="data/large.json 1000000 2000000"}. The file is written in the
+ * compact format, and is the same for the same arguments.
+ */
+public class DataGenerator {
+
+    private static final int DEFAULT_CONTACTS = 10_000;
+    private static final int DEFAULT_MEETINGS_PER_CONTACT = 2;
+    private static final int DEFAULT_MEAN_NOTES = 1;
+    private static final String USAGE = "Usage: DataGenerator FILE [CONTACTS] [MEETINGS] [MEAN_NOTES] [SEED]";
+
+    private static Logger logger = LogsCenter.getLogger(DataGenerator.class);
+
+    /**
+     * Generates the address book described by {@code args} and writes it to the file they name.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1 || args.length > 5) {
+            System.err.println(USAGE);
+            System.exit(1);
+        }
+
+        Path filePath = Paths.get(args[0]);
+        int contacts;
+        int meetings;
+        int meanNotes;
+        long seed;
+        try {
+            contacts = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_CONTACTS;
+            meetings = args.length > 2 ? Integer.parseInt(args[2]) : contacts * DEFAULT_MEETINGS_PER_CONTACT;
+            meanNotes = args.length > 3 ? Integer.parseInt(args[3]) : DEFAULT_MEAN_NOTES;
+            seed = args.length > 4 ? Long.parseLong(args[4]) : SyntheticDataGenerator.DEFAULT_SEED;
+        } catch (NumberFormatException e) {
+            System.err.println(USAGE);
+            System.exit(1);
+            return;
+        }
+
+        long start = System.nanoTime();
+        AddressBook addressBook = new SyntheticDataGenerator(seed).generate(contacts, meetings, meanNotes);
+        new JsonAddressBookStorage(filePath, false).saveAddressBook(addressBook);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        logger.info(String.format("Wrote %d contacts and %d meetings to %s in %d ms", contacts, meetings, filePath,
+            elapsedMillis));
+    }
+
+}
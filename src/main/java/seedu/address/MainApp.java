@@ -3,6 +3,11 @@ package seedu.address;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
@@ -15,6 +20,7 @@ import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.metrics.CommandMetrics;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -25,6 +31,8 @@ import seedu.address.model.util.SampleDataUtil;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 import seedu.address.ui.storage.AddressBookStorage;
+import seedu.address.ui.storage.AsyncAddressBookStorage;
+import seedu.address.ui.storage.JournaledAddressBookStorage;
 import seedu.address.ui.storage.JsonAddressBookStorage;
 import seedu.address.ui.storage.JsonUserPrefsStorage;
 import seedu.address.ui.storage.Storage;
@@ -40,31 +48,81 @@ public class MainApp extends Application {
 
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
+    private static final int STARTUP_THREADS = 2;
+    private static final long METRICS_LOG_MINUTES = 10;
+
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
     protected Model model;
     protected Config config;
 
+    /**
+     * Starts up everything but the UI itself.
+     * <p>
+     * The data file can only be found once the config and preferences are read, so those and the loading of the
+     * data file run in sequence on this thread. Logging is set up as soon as the config is read, before any other
+     * phase starts, so that everything they log follows the config. Everything else that startup needs runs beside
+     * them on a small executor: loading the classes the UI's FXML files import and writing the preferences back.
+     * The time each phase takes is logged.
+     */
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing AddressBook ]===========================");
         super.init();
+        long initStartTime = System.nanoTime();
+
+        ExecutorService executor = Executors.newFixedThreadPool(STARTUP_THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "startup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            AppParameters appParameters = AppParameters.parse(getParameters());
+            config = timePhase("Reading config", () -> initConfig(appParameters.getConfigPath()));
+            runPhase("Setting up logging", () -> initLogging(config));
+
+            CompletableFuture<Void> viewsPreloaded = CompletableFuture.runAsync(() ->
+                runPhase("Preloading views", UiManager::preloadViews), executor);
 
-        AppParameters appParameters = AppParameters.parse(getParameters());
-        config = initConfig(appParameters.getConfigPath());
-        initLogging(config);
+            UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+            UserPrefs userPrefs = timePhase("Reading preferences", () -> initPrefs(userPrefsStorage));
+            CompletableFuture<Void> prefsSaved = CompletableFuture.runAsync(() ->
+                runPhase("Saving preferences", () -> savePrefs(userPrefsStorage, userPrefs)), executor);
 
-        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
-        UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+            AddressBookStorage addressBookStorage = config.isJournalDataFile()
+                ? new JournaledAddressBookStorage(userPrefs.getAddressBookFilePath(), config.isPrettyPrintDataFile())
+                : new JsonAddressBookStorage(userPrefs.getAddressBookFilePath(), config.isPrettyPrintDataFile());
+            storage = new StorageManager(new AsyncAddressBookStorage(addressBookStorage), userPrefsStorage);
 
-        model = initModelManager(storage, userPrefs);
+            model = timePhase("Loading data", () -> initModelManager(storage, userPrefs));
 
-        logic = new LogicManager(model, storage);
+            logic = new LogicManager(model, storage);
+            CommandMetrics.getInstance().logPeriodically(METRICS_LOG_MINUTES, TimeUnit.MINUTES);
+
+            CompletableFuture.allOf(viewsPreloaded, prefsSaved).join();
+            ui = new UiManager(logic);
+        } finally {
+            executor.shutdown();
+        }
+        logger.info("Initialized in " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - initStartTime) + " ms");
+    }
+
+    /**
+     * Runs the startup phase {@code task} and logs how long it took.
+     */
+    private static <T> T timePhase(String phase, Supplier<T> task) {
+        long startTime = System.nanoTime();
+        T result = task.get();
+        logger.info(phase + " took " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime) + " ms");
+        return result;
+    }
 
-        ui = new UiManager(logic);
+    private static void runPhase(String phase, Runnable task) {
+        timePhase(phase, () -> {
+            task.run();
+            return null;
+        });
     }
 
     /**
@@ -75,7 +133,7 @@ public class MainApp extends Application {
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
 
-        Optional<ReadOnlyAddressBook> addressBookOptional;
+        Optional<ReadOnlyAddressBook> addressBookOptional = Optional.empty();
         ReadOnlyAddressBook initialData;
         try {
             addressBookOptional = storage.readAddressBook();
@@ -90,7 +148,12 @@ public class MainApp extends Application {
             initialData = new AddressBook();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        Model initializedModel = new ModelManager(initialData, userPrefs);
+        if (addressBookOptional.isPresent()) {
+            // The loaded data is already in storage, so only later changes need saving
+            initializedModel.markAddressBookSaved();
+        }
+        return initializedModel;
     }
 
     private void initLogging(Config config) {
@@ -139,7 +202,7 @@ public class MainApp extends Application {
     /**
      * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
      * or a new {@code UserPrefs} with default configuration if errors occur when
-     * reading from the file.
+     * reading from the file. The prefs are not written back; see {@link #savePrefs}.
      */
     protected UserPrefs initPrefs(UserPrefsStorage storage) {
         Path prefsFilePath = storage.getUserPrefsFilePath();
@@ -158,14 +221,19 @@ public class MainApp extends Application {
             initializedPrefs = new UserPrefs();
         }
 
+        return initializedPrefs;
+    }
+
+    /**
+     * Writes {@code prefs}, as read by {@link #initPrefs}, back to {@code storage}'s user prefs file.
+     */
+    private void savePrefs(UserPrefsStorage storage, UserPrefs prefs) {
         //Update prefs file in case it was missing to begin with or there are new/unused fields
         try {
-            storage.saveUserPrefs(initializedPrefs);
+            storage.saveUserPrefs(prefs);
         } catch (IOException e) {
             logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
         }
-
-        return initializedPrefs;
     }
 
     @Override
@@ -182,5 +250,11 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        // Writes any saves still queued in the background before the JVM exits
+        try {
+            storage.close();
+        } catch (IOException e) {
+            logger.severe("Failed to finish writing the data file " + StringUtil.getDetails(e));
+        }
     }
 }
@@ -17,6 +17,8 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean prettyPrintDataFile = true;
+    private boolean journalDataFile = false;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +36,22 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public boolean isPrettyPrintDataFile() {
+        return prettyPrintDataFile;
+    }
+
+    public void setPrettyPrintDataFile(boolean prettyPrintDataFile) {
+        this.prettyPrintDataFile = prettyPrintDataFile;
+    }
+
+    public boolean isJournalDataFile() {
+        return journalDataFile;
+    }
+
+    public void setJournalDataFile(boolean journalDataFile) {
+        this.journalDataFile = journalDataFile;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +65,14 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && prettyPrintDataFile == otherConfig.prettyPrintDataFile
+                && journalDataFile == otherConfig.journalDataFile;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, prettyPrintDataFile, journalDataFile);
     }
 
     @Override
@@ -60,6 +80,8 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("prettyPrintDataFile", prettyPrintDataFile)
+                .add("journalDataFile", journalDataFile)
                 .toString();
     }
 
@@ -1,10 +1,21 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileSystemException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Writes and reads files
@@ -12,6 +23,17 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String BACKUP_INFIX = ".bak.";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Writes the contents of a file to a stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -75,9 +97,129 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     *
+     * @see #writeAtomically(Path, ContentWriter)
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        writeAtomically(file, out -> out.write(bytes));
+    }
+
+    /**
+     * Replaces the contents of {@code file} with what {@code writer} writes, creating the file and its missing parent
+     * directories if needed. The contents are written to a temporary file in the same directory, forced to the
+     * storage device, and then moved over {@code file}, so a crash leaves either the old or the new contents behind.
+     * <p>
+     * The temporary file is named {@code <file name>.tmp}, so one left behind by a crash is replaced by the next
+     * write, and two writes to the same file must not run at the same time. It is given the permissions of
+     * {@code file}, which therefore keeps them.
+     */
+    public static void writeAtomically(Path file, ContentWriter writer) throws IOException {
+        createParentDirsOfFile(file);
+        Path directory = file.toAbsolutePath().getParent();
+        Path tempFile = getTempFile(file);
+        Files.deleteIfExists(tempFile);
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE_NEW,
+                    StandardOpenOption.WRITE)) {
+                copyPermissions(file, tempFile);
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE) {
+                    @Override
+                    public void close() throws IOException {
+                        // The channel still has to be forced, so writers closing their stream only flush it
+                        flush();
+                    }
+                };
+                writer.writeTo(out);
+                out.flush();
+                channel.force(true);
+            }
+            moveReplacing(tempFile, file);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        forceDirectory(directory);
+    }
+
+    /**
+     * Returns the temporary file that {@link #writeAtomically(Path, ContentWriter)} writes {@code file} through.
+     */
+    public static Path getTempFile(Path file) {
+        return file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+    }
+
+    /**
+     * Gives {@code target} the POSIX permissions of {@code source}, if {@code source} exists and the file system
+     * has POSIX permissions. Elsewhere, files get the default permissions of their directory either way.
+     */
+    private static void copyPermissions(Path source, Path target) throws IOException {
+        if (isFileExists(source) && Files.getFileAttributeView(source, PosixFileAttributeView.class) != null) {
+            Files.setPosixFilePermissions(target, Files.getPosixFilePermissions(source));
+        }
+    }
+
+    private static void moveReplacing(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces a rename within {@code directory} to the storage device, on platforms that allow opening directories.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Not supported on every platform; the file itself has already been forced
+        }
+    }
+
+    /**
+     * Keeps the current contents of {@code file} as its newest backup, shifting older backups down and dropping
+     * any beyond {@code backupCount}. Backups are named {@code <file name>.bak.1} (newest) to
+     * {@code <file name>.bak.<backupCount>} (oldest). Does nothing if {@code file} does not exist.
+     */
+    public static void rotateBackups(Path file, int backupCount) throws IOException {
+        if (backupCount <= 0 || !isFileExists(file)) {
+            return;
+        }
+
+        Files.deleteIfExists(getBackupFile(file, backupCount));
+        for (int i = backupCount - 1; i >= 1; i--) {
+            Path backup = getBackupFile(file, i);
+            if (Files.exists(backup)) {
+                Files.move(backup, getBackupFile(file, i + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+
+        Path newestBackup = getBackupFile(file, 1);
+        try {
+            // A hard link costs nothing to make, and keeps the old contents once the file is replaced atomically
+            Files.createLink(newestBackup, file);
+        } catch (UnsupportedOperationException | FileSystemException e) {
+            Files.copy(file, newestBackup, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Returns the backups of {@code file} made by {@link #rotateBackups(Path, int)} that exist, newest first.
+     */
+    public static List<Path> getBackupFiles(Path file, int backupCount) {
+        List<Path> backups = new ArrayList<>();
+        for (int i = 1; i <= backupCount; i++) {
+            Path backup = getBackupFile(file, i);
+            if (isFileExists(backup)) {
+                backups.add(backup);
+            }
+        }
+        return backups;
+    }
+
+    private static Path getBackupFile(Path file, int index) {
+        return file.resolveSibling(file.getFileName() + BACKUP_INFIX + index);
     }
 
 }
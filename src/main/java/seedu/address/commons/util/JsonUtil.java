@@ -3,6 +3,7 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,6 +12,8 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -92,6 +95,38 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Returns a streaming parser over the given JSON file.
+     * The parser is bound to the same configuration as the rest of this class, so individual values can be read
+     * with {@link JsonParser#readValueAs(Class)} without materialising the whole document.
+     * The caller is responsible for closing the parser, which also closes the file.
+     *
+     * @param filePath cannot be null.
+     * @throws IOException if the file could not be opened.
+     */
+    public static JsonParser createParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return objectMapper.getFactory().createParser(Files.newInputStream(filePath));
+    }
+
+    /**
+     * Returns a streaming generator that writes to {@code out}.
+     * The generator is bound to the same configuration as the rest of this class, so individual values can be
+     * written with {@link JsonGenerator#writeObject(Object)} without building the whole document in memory.
+     * Closing the generator also closes {@code out}.
+     *
+     * @param out cannot be null.
+     * @param isPrettyPrinted whether the output should be indented like {@link #toJsonString(Object)}.
+     */
+    public static JsonGenerator createGenerator(OutputStream out, boolean isPrettyPrinted) throws IOException {
+        requireNonNull(out);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        if (isPrettyPrinted) {
+            generator.useDefaultPrettyPrinter();
+        }
+        return generator;
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
@@ -111,6 +146,16 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into a single-line JSON data string representation
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance without any indentation or line breaks
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -11,6 +11,8 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.logic.metrics.CommandMetrics.Stage;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
@@ -33,33 +35,60 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final CommandMetrics commandMetrics;
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which records its commands
+     * in the app's {@code CommandMetrics}.
      */
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        commandMetrics = CommandMetrics.getInstance();
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
-        Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        CommandMetrics.Sample sample = commandMetrics.start();
+        String commandName = CommandMetrics.UNPARSED_COMMAND;
+        try {
+            Command command;
+            try {
+                command = addressBookParser.parseCommand(commandText);
+            } finally {
+                sample.endStage(Stage.PARSE);
+            }
+            commandName = command.getClass().getSimpleName();
+            CommandResult commandResult = command.execute(model);
+            sample.endStage(Stage.EXECUTE);
+
+            save();
+            sample.endStage(Stage.SAVE);
+            return commandResult;
+        } finally {
+            commandMetrics.record(commandName, sample);
+        }
+    }
 
+    /**
+     * Saves the model's unsaved changes, and reports the failure of this or an earlier save.
+     */
+    private void save() throws CommandException {
         try {
-            storage.saveAddressBook(model.getAddressBook());
+            if (model.hasUnsavedChanges()) {
+                storage.saveAddressBookChanges(model.getAddressBook(), model.getUnsavedChanges());
+                model.markAddressBookSaved();
+            }
+            // Saves may run in the background, so this reports a failure of an earlier command's save
+            storage.throwIfSaveFailed();
         } catch (AccessDeniedException e) {
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
             throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
         }
-
-        return commandResult;
     }
 
     @Override
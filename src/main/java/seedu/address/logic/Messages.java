@@ -15,6 +15,7 @@ import seedu.address.model.meeting.Meeting;
 public class Messages {
 
     public static final String MESSAGE_UNKNOWN_COMMAND = "Unknown command: %1$s";
+    public static final String MESSAGE_AMBIGUOUS_COMMAND = "Ambiguous command: %1$s could be any of %2$s";
     public static final String MESSAGE_DUPLICATE_NOTES = "Error: the note already exists.";
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n%1$s";
     public static final String MESSAGE_INVALID_CONTACT_DISPLAYED_INDEX = "The contact index provided is invalid";
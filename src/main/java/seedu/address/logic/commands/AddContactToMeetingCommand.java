@@ -77,20 +77,13 @@ public class AddContactToMeetingCommand extends Command {
             throw new CommandException(MESSAGE_MEETING_NOT_FOUND);
         }
 
-        // Register Observers
-        ArrayList<Meeting> observerList = new ArrayList<>(contact.getObservers());
-        if (!observerList.contains(meetingToEdit)) {
-            observerList.add(meetingToEdit);
-        }
-        contact.addObserver(meetingToEdit);
-
-        ArrayList<Contact> listOfContacts = new ArrayList<>(meetingToEdit.getContacts());
-        if (listOfContacts.stream().anyMatch(contact::isSameContact)) {
+        if (meetingToEdit.hasContact(contact)) {
             throw new CommandException(MESSAGE_DUPLICATE_CONTACT);
         }
+        ArrayList<Contact> listOfContacts = new ArrayList<>(meetingToEdit.getContacts());
         listOfContacts.add(contact);
 
-        Meeting editedMeeting = new Meeting(
+        Meeting editedMeeting = new Meeting(meetingToEdit.getId(),
             meetingToEdit.getTitle(), meetingToEdit.getTime(), meetingToEdit.getPlace(),
             meetingToEdit.getDescription(), meetingToEdit.getNotes(), listOfContacts);
 
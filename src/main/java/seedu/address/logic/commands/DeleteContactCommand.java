@@ -43,7 +43,6 @@ public class DeleteContactCommand extends Command {
 
         Contact contactToDelete = lastShownList.get(targetIndex.getZeroBased());
         model.deleteContact(contactToDelete);
-        contactToDelete.notifyObservers(model);
         AppState appState = AppState.getInstance();
         appState.deleteContact(contactToDelete);
 
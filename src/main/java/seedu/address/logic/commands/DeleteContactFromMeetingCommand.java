@@ -74,9 +74,10 @@ public class DeleteContactFromMeetingCommand extends Command {
             throw new CommandException(MESSAGE_CONTACT_NOT_FOUND);
         }
         assert listOfContacts.contains(contact);
-        listOfContacts.remove(contact);
+        long contactId = contact.getId();
+        listOfContacts.removeIf(c -> c.getId() == contactId);
 
-        Meeting editedMeeting = new Meeting(
+        Meeting editedMeeting = new Meeting(meetingToEdit.getId(),
                 meetingToEdit.getTitle(), meetingToEdit.getTime(), meetingToEdit.getPlace(),
                 meetingToEdit.getDescription(), meetingToEdit.getNotes(), listOfContacts);
 
@@ -100,7 +100,7 @@ public class EditContactCommand extends Command {
         Email updatedEmail = editContactDescriptor.getEmail().orElse(contactToEdit.getEmail());
         ArrayList<Note> updatedNotes = editContactDescriptor.getNotes().orElse(contactToEdit.getNotes());
 
-        return new Contact(updatedName, updatedPhone, updatedEmail, updatedNotes, contactToEdit.getObservers());
+        return new Contact(contactToEdit.getId(), updatedName, updatedPhone, updatedEmail, updatedNotes);
     }
 
     @Override
@@ -105,7 +105,8 @@ public class EditMeetingCommand extends Command {
         Description updatedDescription = editMeetingDescriptor.getDescription().orElse(meetingToEdit.getDescription());
         ArrayList<Note> updatedNotes = editMeetingDescriptor.getNotes().orElse(meetingToEdit.getNotes());
         ArrayList<Contact> updatedContacts = editMeetingDescriptor.getContacts().orElse(meetingToEdit.getContacts());
-        return new Meeting(updatedTitle, updatedTime, updatedPlace, updatedDescription, updatedNotes, updatedContacts);
+        return new Meeting(meetingToEdit.getId(), updatedTitle, updatedTime, updatedPlace, updatedDescription,
+            updatedNotes, updatedContacts);
     }
 
     @Override
@@ -16,15 +16,29 @@ public class ListContactCommand extends Command {
     public static final String MESSAGE_SUCCESS = "Listed all contacts.";
 
     private final ContactFilterPredicate predicate;
+    private final String query;
 
     public ListContactCommand(ContactFilterPredicate predicate) {
+        this(predicate, "");
+    }
+
+    /**
+     * Creates a ListContactCommand that lists the contacts passing {@code predicate}, ranked by their similarity to
+     * {@code query} unless it is empty.
+     */
+    public ListContactCommand(ContactFilterPredicate predicate, String query) {
         this.predicate = predicate;
+        this.query = query;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredContactList(predicate);
+        if (query.isEmpty()) {
+            model.updateFilteredContactList(predicate);
+        } else {
+            model.rankFilteredContactList(predicate, query);
+        }
 
         return new CommandResult(String.format(Messages.MESSAGE_CONTACTS_LISTED_OVERVIEW,
                 model.getFilteredContactList().size()));
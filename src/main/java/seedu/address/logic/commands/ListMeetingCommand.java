@@ -16,15 +16,29 @@ public class ListMeetingCommand extends Command {
     public static final String MESSAGE_SUCCESS = "Listed all meetings.";
 
     private final MeetingFilterPredicate predicate;
+    private final String query;
 
     public ListMeetingCommand(MeetingFilterPredicate predicate) {
+        this(predicate, "");
+    }
+
+    /**
+     * Creates a ListMeetingCommand that lists the meetings passing {@code predicate}, ranked by their similarity to
+     * {@code query} unless it is empty.
+     */
+    public ListMeetingCommand(MeetingFilterPredicate predicate, String query) {
         this.predicate = predicate;
+        this.query = query;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredMeetingList(predicate);
+        if (query.isEmpty()) {
+            model.updateFilteredMeetingList(predicate);
+        } else {
+            model.rankFilteredMeetingList(predicate, query);
+        }
         return new CommandResult(String.format(Messages.MESSAGE_MEETINGS_LISTED_OVERVIEW,
             model.getFilteredMeetingList().size()));
     }
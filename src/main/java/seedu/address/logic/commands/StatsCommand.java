@@ -0,0 +1,25 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.model.Model;
+
+/**
+ * Shows the 50th and 99th percentile times and allocations of each type of command run since the app started.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows how long each type of command has taken.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Command metrics since NoteNote started:\n%1$s";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, CommandMetrics.getInstance().getSummary()));
+    }
+}
@@ -0,0 +1,199 @@
+package seedu.address.logic.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Records how long each type of command takes to parse, execute and save, and how many bytes it allocates, so
+ * their percentiles can be reported by the {@code stats} command and in the log.
+ * <p>
+ * There is one {@code CommandMetrics} for the app, which {@code LogicManager} records every command into.
+ * Allocated bytes are read from the JVM's per-thread allocation counter, and are not recorded if the JVM does not
+ * count them.
+ */
+public class CommandMetrics {
+
+    /**
+     * The stages of running a command that are timed.
+     */
+    public enum Stage {
+        PARSE, EXECUTE, SAVE
+    }
+
+    public static final String UNPARSED_COMMAND = "(unparsed)";
+
+    private static final Logger logger = LogsCenter.getLogger(CommandMetrics.class);
+    private static final double[] PERCENTILES = {50, 99};
+
+    private static CommandMetrics instance;
+
+    private final Map<String, CommandStats> statsByCommand = new TreeMap<>();
+    private final com.sun.management.ThreadMXBean allocationCounter = getAllocationCounter();
+    private ScheduledExecutorService logScheduler;
+    private long commandsSinceLastLog;
+
+    /**
+     * Creates an empty set of metrics. Use {@link #getInstance()} for the app's metrics.
+     */
+    CommandMetrics() {
+    }
+
+    /**
+     * Returns the app's metrics, creating them if they don't exist.
+     */
+    public static synchronized CommandMetrics getInstance() {
+        if (instance == null) {
+            instance = new CommandMetrics();
+        }
+        return instance;
+    }
+
+    /**
+     * Starts measuring a command run on the current thread.
+     */
+    public Sample start() {
+        return new Sample();
+    }
+
+    /**
+     * Records {@code sample}, which must have been started on the current thread, under {@code commandName}.
+     * Stages that were not reached, such as the save of a command that failed, are left out.
+     */
+    public synchronized void record(String commandName, Sample sample) {
+        long allocatedBytes = sample.allocatedBytes();
+        CommandStats stats = statsByCommand.computeIfAbsent(commandName, unused -> new CommandStats());
+        for (Map.Entry<Stage, Long> stageTime : sample.stageTimes.entrySet()) {
+            stats.nanosByStage.get(stageTime.getKey()).record(stageTime.getValue());
+        }
+        if (allocatedBytes >= 0) {
+            stats.allocatedBytes.record(allocatedBytes);
+        }
+        stats.count++;
+        commandsSinceLastLog++;
+    }
+
+    /**
+     * Returns a line for each type of command recorded, with how many were run and the percentiles of their stage
+     * times and allocated bytes.
+     */
+    public synchronized String getSummary() {
+        if (statsByCommand.isEmpty()) {
+            return "No commands recorded yet.";
+        }
+        StringBuilder summary = new StringBuilder();
+        statsByCommand.forEach((commandName, stats) -> {
+            summary.append(commandName).append(" x").append(stats.count).append(':');
+            stats.nanosByStage.forEach((stage, histogram) -> {
+                if (histogram.getTotalCount() > 0) {
+                    summary.append(' ').append(stage.name().toLowerCase());
+                    appendPercentiles(summary, histogram, 1e-6, "ms");
+                }
+            });
+            if (stats.allocatedBytes.getTotalCount() > 0) {
+                summary.append(" alloc");
+                appendPercentiles(summary, stats.allocatedBytes, 1.0 / 1024, "KB");
+            }
+            summary.append('\n');
+        });
+        return summary.toString().trim();
+    }
+
+    /**
+     * Logs the summary every {@code period} {@code unit}s on a background thread, if any commands were run since it
+     * was last logged. Does nothing if the summary is already being logged.
+     */
+    public synchronized void logPeriodically(long period, TimeUnit unit) {
+        if (logScheduler != null) {
+            return;
+        }
+        logScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "command-metrics");
+            thread.setDaemon(true);
+            return thread;
+        });
+        logScheduler.scheduleAtFixedRate(this::logSummary, period, period, unit);
+    }
+
+    private synchronized void logSummary() {
+        if (commandsSinceLastLog == 0) {
+            return;
+        }
+        commandsSinceLastLog = 0;
+        logger.info("Command metrics:\n" + getSummary());
+    }
+
+    private static void appendPercentiles(StringBuilder summary, Histogram histogram, double scale, String unit) {
+        for (double percentile : PERCENTILES) {
+            summary.append(String.format(" p%.0f=%.2f", percentile,
+                histogram.getValueAtPercentile(percentile) * scale));
+        }
+        summary.append(String.format(" max=%.2f%s", histogram.getMax() * scale, unit));
+    }
+
+    private static com.sun.management.ThreadMXBean getAllocationCounter() {
+        ThreadMXBean threadMxBean = ManagementFactory.getThreadMXBean();
+        if (!(threadMxBean instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+        com.sun.management.ThreadMXBean allocationCounter = (com.sun.management.ThreadMXBean) threadMxBean;
+        return allocationCounter.isThreadAllocatedMemorySupported()
+            && allocationCounter.isThreadAllocatedMemoryEnabled() ? allocationCounter : null;
+    }
+
+    private long currentThreadAllocatedBytes() {
+        return allocationCounter == null ? -1
+            : allocationCounter.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * The measurements of one command, taken as it runs.
+     */
+    public class Sample {
+        private final long startAllocatedBytes = currentThreadAllocatedBytes();
+        private final Map<Stage, Long> stageTimes = new EnumMap<>(Stage.class);
+        private long stageStartTime = System.nanoTime();
+
+        private Sample() {
+        }
+
+        /**
+         * Records the time since the previous stage ended, or since the sample started, as the time of
+         * {@code stage}.
+         */
+        public void endStage(Stage stage) {
+            long now = System.nanoTime();
+            stageTimes.put(stage, now - stageStartTime);
+            stageStartTime = now;
+        }
+
+        private long allocatedBytes() {
+            long endAllocatedBytes = currentThreadAllocatedBytes();
+            return startAllocatedBytes < 0 || endAllocatedBytes < 0 ? -1 : endAllocatedBytes - startAllocatedBytes;
+        }
+    }
+
+    /**
+     * The histograms of one type of command.
+     */
+    private static class CommandStats {
+        private final Map<Stage, Histogram> nanosByStage = new EnumMap<>(Stage.class);
+        private final Histogram allocatedBytes = new Histogram();
+        private long count;
+
+        private CommandStats() {
+            for (Stage stage : Stage.values()) {
+                nanosByStage.put(stage, new Histogram());
+            }
+        }
+    }
+
+}
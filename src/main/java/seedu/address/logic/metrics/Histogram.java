@@ -0,0 +1,74 @@
+package seedu.address.logic.metrics;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+/**
+ * Counts non-negative values, such as durations in nanoseconds or sizes in bytes, to report their percentiles in
+ * a fixed amount of memory.
+ * <p>
+ * As in HdrHistogram, values are counted in buckets that double in width from one power of two to the next, each
+ * split into {@code SUB_BUCKETS} equal parts, so a reported percentile is within about 3% of the actual value
+ * however large the values are.
+ */
+public class Histogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = Long.SIZE - SUB_BUCKET_BITS;
+
+    private final long[] counts = new long[(BUCKETS + 1) * SUB_BUCKETS];
+    private long totalCount;
+    private long max;
+
+    /**
+     * Counts {@code value}, which must not be negative.
+     */
+    public void record(long value) {
+        checkArgument(value >= 0, "Recorded values must not be negative");
+        counts[indexOf(value)]++;
+        totalCount++;
+        max = Math.max(max, value);
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Returns the value that {@code percentile} percent of the counted values are at most, or 0 if nothing has been
+     * counted. The value is the largest in its bucket, but no larger than the largest value counted.
+     */
+    public long getValueAtPercentile(double percentile) {
+        checkArgument(percentile >= 0 && percentile <= 100, "Percentiles must be from 0 to 100");
+        long countAtPercentile = Math.max(1, (long) Math.ceil(percentile / 100 * totalCount));
+        long count = 0;
+        for (int i = 0; i < counts.length; i++) {
+            count += counts[i];
+            if (count >= countAtPercentile) {
+                return Math.min(highestValueAt(i), max);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the index of the bucket that counts {@code value}. Values below {@code 2 * SUB_BUCKETS} each have
+     * their own bucket, and each larger one shares a bucket with the values that have the same
+     * {@code SUB_BUCKET_BITS + 1} highest bits.
+     */
+    private static int indexOf(long value) {
+        int shift = Math.max(0, Long.SIZE - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS - 1);
+        return shift * SUB_BUCKETS + (int) (value >>> shift);
+    }
+
+    private static long highestValueAt(int index) {
+        int shift = Math.max(0, index / SUB_BUCKETS - 1);
+        long lowestValue = (long) (index - shift * SUB_BUCKETS) << shift;
+        return lowestValue + (1L << shift) - 1;
+    }
+
+}
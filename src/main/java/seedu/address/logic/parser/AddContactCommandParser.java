@@ -14,7 +14,6 @@ import seedu.address.model.contact.Contact;
 import seedu.address.model.contact.Email;
 import seedu.address.model.contact.Name;
 import seedu.address.model.contact.Phone;
-import seedu.address.model.meeting.Meeting;
 import seedu.address.model.note.Note;
 
 /**
@@ -43,7 +42,7 @@ public class AddContactCommandParser implements Parser<AddContactCommand> {
         Phone phone = ParserUtil.parsePhone(argMultimap.getValue(PREFIX_PHONE).get());
         Email email = ParserUtil.parseEmail(argMultimap.getValue(PREFIX_EMAIL).get());
         ArrayList<Note> noteList = ParserUtil.parseNotes(argMultimap.getAllValues(PREFIX_NOTE));
-        Contact contact = new Contact(name, phone, email, noteList, new ArrayList<Meeting>());
+        Contact contact = new Contact(name, phone, email, noteList);
 
         return new AddContactCommand(contact);
     }
@@ -16,11 +16,15 @@ import seedu.address.logic.parser.exceptions.ParseException;
  * Values for a given key are stored in a list, and the insertion ordering is maintained.
  * Keys are unique, but the list of argument values may contain duplicate argument values, i.e. the same argument value
  * can be inserted multiple times for the same prefix.
+ * Values from {@link ArgumentTokenizer} are kept as spans of the arguments string, which are only copied out of it
+ * when they are asked for.
  */
 public class ArgumentMultimap {
 
+    private static final Prefix PREAMBLE = new Prefix("");
+
     /** Prefixes mapped to their respective arguments**/
-    private final Map<Prefix, List<String>> argMultimap = new HashMap<>();
+    private final Map<Prefix, List<ArgumentSpan>> argMultimap = new HashMap<>();
 
     /**
      * Associates the specified argument value with {@code prefix} key in this map.
@@ -30,17 +34,24 @@ public class ArgumentMultimap {
      * @param argValue Argument value to be associated with the specified prefix key
      */
     public void put(Prefix prefix, String argValue) {
-        List<String> argValues = getAllValues(prefix);
-        argValues.add(argValue);
-        argMultimap.put(prefix, argValues);
+        put(prefix, argValue, 0, argValue.length());
+    }
+
+    /**
+     * Associates the value from {@code start} to {@code end} in {@code argsString} with {@code prefix} key in this
+     * map, as {@link #put(Prefix, String)} does, without copying it out of {@code argsString} until it is asked for.
+     */
+    void put(Prefix prefix, String argsString, int start, int end) {
+        argMultimap.computeIfAbsent(prefix, unused -> new ArrayList<>())
+                .add(new ArgumentSpan(argsString, start, end));
     }
 
     /**
      * Returns the last value of {@code prefix}.
      */
     public Optional<String> getValue(Prefix prefix) {
-        List<String> values = getAllValues(prefix);
-        return values.isEmpty() ? Optional.empty() : Optional.of(values.get(values.size() - 1));
+        List<ArgumentSpan> spans = argMultimap.get(prefix);
+        return spans == null ? Optional.empty() : Optional.of(spans.get(spans.size() - 1).getValue());
     }
 
     /**
@@ -49,17 +60,18 @@ public class ArgumentMultimap {
      * Modifying the returned list will not affect the underlying data structure of the ArgumentMultimap.
      */
     public List<String> getAllValues(Prefix prefix) {
-        if (!argMultimap.containsKey(prefix)) {
-            return new ArrayList<>();
+        List<String> values = new ArrayList<>();
+        for (ArgumentSpan span : argMultimap.getOrDefault(prefix, List.of())) {
+            values.add(span.getValue());
         }
-        return new ArrayList<>(argMultimap.get(prefix));
+        return values;
     }
 
     /**
      * Returns the preamble (text before the first valid prefix). Trims any leading/trailing spaces.
      */
     public String getPreamble() {
-        return getValue(new Prefix("")).orElse("");
+        return getValue(PREAMBLE).orElse("");
     }
 
     /**
@@ -91,4 +103,27 @@ public class ArgumentMultimap {
     public boolean isAnyPrefixPresent(Prefix... prefixes) {
         return Stream.of(prefixes).anyMatch(prefix -> this.getValue(prefix).isPresent());
     }
+
+    /**
+     * An argument value, as the part of the arguments string it is in.
+     */
+    private static class ArgumentSpan {
+        private final String argsString;
+        private final int start;
+        private final int end;
+        private String value;
+
+        ArgumentSpan(String argsString, int start, int end) {
+            this.argsString = argsString;
+            this.start = start;
+            this.end = end;
+        }
+
+        String getValue() {
+            if (value == null) {
+                value = argsString.substring(start, end);
+            }
+            return value;
+        }
+    }
 }
@@ -1,9 +1,9 @@
 package seedu.address.logic.parser;
 
-import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Tokenizes arguments string of the form: {@code preamble <prefix>value <prefix>value ...}<br>
@@ -12,137 +12,111 @@ import java.util.stream.Collectors;
  * 2. Leading and trailing whitespaces of an argument value will be discarded.<br>
  * 3. An argument may be repeated and all its values will be accumulated e.g. the value of {@code t/}
  *    in the above example.<br>
+ * <p>
+ * The arguments string is scanned once from left to right, matching every prefix at once against a trie of the
+ * prefixes, and each value is kept as its start and end in the arguments string until it is asked for.
  */
 public class ArgumentTokenizer {
 
+    private static final Prefix PREAMBLE = new Prefix("");
+
+    /** The trie of each set of prefixes tokenized with so far, as parsers tokenize with the same ones each time. */
+    private static final Map<List<Prefix>, PrefixTrie> triesByPrefixes = new ConcurrentHashMap<>();
+
     /**
      * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps prefixes to their
      * respective argument values. Only the given prefixes will be recognized in the arguments string.
+     * A prefix is only recognized if there is a whitespace before it, and where one given prefix begins with
+     * another, the longer one is recognized.
      *
      * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
      * @param prefixes   Prefixes to tokenize the arguments string with
      * @return           ArgumentMultimap object that maps prefixes to their arguments
      */
     public static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
-        List<PrefixPosition> positions = findAllPrefixPositions(argsString, prefixes);
-        return extractArguments(argsString, positions);
-    }
-
-    /**
-     * Finds all zero-based prefix positions in the given arguments string.
-     *
-     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixes   Prefixes to find in the arguments string
-     * @return           List of zero-based prefix positions in the given arguments string
-     */
-    private static List<PrefixPosition> findAllPrefixPositions(String argsString, Prefix... prefixes) {
-        return Arrays.stream(prefixes)
-                .flatMap(prefix -> findPrefixPositions(argsString, prefix).stream())
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * {@see findAllPrefixPositions}
-     */
-    private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
-        List<PrefixPosition> positions = new ArrayList<>();
+        PrefixTrie trie = triesByPrefixes.computeIfAbsent(List.of(prefixes), PrefixTrie::new);
+        ArgumentMultimap argMultimap = new ArgumentMultimap();
 
-        int prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), 0);
-        while (prefixPosition != -1) {
-            PrefixPosition extendedPrefix = new PrefixPosition(prefix, prefixPosition);
-            positions.add(extendedPrefix);
-            prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), prefixPosition);
+        Prefix currentPrefix = PREAMBLE;
+        int valueStart = 0;
+        for (int i = 1; i < argsString.length(); i++) {
+            if (argsString.charAt(i - 1) != ' ') {
+                continue;
+            }
+            Prefix prefix = trie.match(argsString, i);
+            if (prefix == null) {
+                continue;
+            }
+            putTrimmed(argMultimap, currentPrefix, argsString, valueStart, i);
+            currentPrefix = prefix;
+            valueStart = i + prefix.getPrefix().length();
+            i = valueStart - 1;
         }
+        putTrimmed(argMultimap, currentPrefix, argsString, valueStart, argsString.length());
 
-        return positions;
+        return argMultimap;
     }
 
     /**
-     * Returns the index of the first occurrence of {@code prefix} in
-     * {@code argsString} starting from index {@code fromIndex}. An occurrence
-     * is valid if there is a whitespace before {@code prefix}. Returns -1 if no
-     * such occurrence can be found.
-     *
-     * E.g if {@code argsString} = "e/hip/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns -1 as there are no valid
-     * occurrences of "p/" with whitespace before it. However, if
-     * {@code argsString} = "e/hi p/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns 5.
+     * Puts the value from {@code start} to {@code end} in {@code argsString}, without its leading and trailing
+     * whitespaces, into {@code argMultimap} under {@code prefix}.
      */
-    private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
-        int prefixIndex = argsString.indexOf(" " + prefix, fromIndex);
-        return prefixIndex == -1 ? -1
-                : prefixIndex + 1; // +1 as offset for whitespace
-    }
-
-    /**
-     * Extracts prefixes and their argument values, and returns an {@code ArgumentMultimap} object that maps the
-     * extracted prefixes to their respective arguments. Prefixes are extracted based on their zero-based positions in
-     * {@code argsString}.
-     *
-     * @param argsString      Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixPositions Zero-based positions of all prefixes in {@code argsString}
-     * @return                ArgumentMultimap object that maps prefixes to their arguments
-     */
-    private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
-
-        // Sort by start position
-        prefixPositions.sort((prefix1, prefix2) -> prefix1.getStartPosition() - prefix2.getStartPosition());
-
-        // Insert a PrefixPosition to represent the preamble
-        PrefixPosition preambleMarker = new PrefixPosition(new Prefix(""), 0);
-        prefixPositions.add(0, preambleMarker);
-
-        // Add a dummy PrefixPosition to represent the end of the string
-        PrefixPosition endPositionMarker = new PrefixPosition(new Prefix(""), argsString.length());
-        prefixPositions.add(endPositionMarker);
-
-        // Map prefixes to their argument values (if any)
-        ArgumentMultimap argMultimap = new ArgumentMultimap();
-        for (int i = 0; i < prefixPositions.size() - 1; i++) {
-            // Extract and store prefixes and their arguments
-            Prefix argPrefix = prefixPositions.get(i).getPrefix();
-            String argValue = extractArgumentValue(argsString, prefixPositions.get(i), prefixPositions.get(i + 1));
-            argMultimap.put(argPrefix, argValue);
+    private static void putTrimmed(ArgumentMultimap argMultimap, Prefix prefix, String argsString, int start,
+                                   int end) {
+        while (start < end && argsString.charAt(start) <= ' ') {
+            start++;
         }
-
-        return argMultimap;
+        while (end > start && argsString.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        argMultimap.put(prefix, argsString, start, end);
     }
 
     /**
-     * Returns the trimmed value of the argument in the arguments string specified by {@code currentPrefixPosition}.
-     * The end position of the value is determined by {@code nextPrefixPosition}.
+     * A trie of prefixes, which finds the longest of them that begins at a position in an arguments string.
      */
-    private static String extractArgumentValue(String argsString,
-                                        PrefixPosition currentPrefixPosition,
-                                        PrefixPosition nextPrefixPosition) {
-        Prefix prefix = currentPrefixPosition.getPrefix();
-
-        int valueStartPos = currentPrefixPosition.getStartPosition() + prefix.getPrefix().length();
-        String value = argsString.substring(valueStartPos, nextPrefixPosition.getStartPosition());
+    private static class PrefixTrie {
+        private final Node root = new Node();
+
+        PrefixTrie(List<Prefix> prefixes) {
+            for (Prefix prefix : prefixes) {
+                String prefixString = prefix.getPrefix();
+                if (prefixString.isEmpty()) {
+                    continue;
+                }
+                Node node = root;
+                for (int i = 0; i < prefixString.length(); i++) {
+                    node = node.children.computeIfAbsent(prefixString.charAt(i), unused -> new Node());
+                }
+                node.prefix = prefix;
+            }
+        }
 
-        return value.trim();
+        /**
+         * Returns the longest prefix that {@code argsString} has at {@code start}, or null if it has none.
+         */
+        Prefix match(String argsString, int start) {
+            Prefix longestMatch = null;
+            Node node = root;
+            for (int i = start; i < argsString.length(); i++) {
+                node = node.children.get(argsString.charAt(i));
+                if (node == null) {
+                    break;
+                }
+                if (node.prefix != null) {
+                    longestMatch = node.prefix;
+                }
+            }
+            return longestMatch;
+        }
     }
 
     /**
-     * Represents a prefix's position in an arguments string.
+     * A node of a {@code PrefixTrie}, reached by the characters of the beginning of one or more prefixes.
      */
-    private static class PrefixPosition {
-        private int startPosition;
-        private final Prefix prefix;
-
-        PrefixPosition(Prefix prefix, int startPosition) {
-            this.prefix = prefix;
-            this.startPosition = startPosition;
-        }
-
-        int getStartPosition() {
-            return startPosition;
-        }
-
-        Prefix getPrefix() {
-            return prefix;
-        }
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private Prefix prefix;
     }
 
 }
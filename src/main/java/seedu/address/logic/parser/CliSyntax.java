@@ -18,4 +18,5 @@ public class CliSyntax {
     public static final Prefix PREFIX_INDEX = new Prefix("id/");
     public static final Prefix PREFIX_NOTE = new Prefix("note/");
     public static final Prefix PREFIX_NOTE_ID = new Prefix("noteid/");
+    public static final Prefix PREFIX_QUERY = new Prefix("q/");
 }
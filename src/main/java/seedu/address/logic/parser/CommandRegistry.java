@@ -0,0 +1,189 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.logic.commands.AddContactCommand;
+import seedu.address.logic.commands.AddContactToMeetingCommand;
+import seedu.address.logic.commands.AddMeetingCommand;
+import seedu.address.logic.commands.AddMeetingNoteCommand;
+import seedu.address.logic.commands.AddNoteCommand;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.DeleteContactCommand;
+import seedu.address.logic.commands.DeleteContactFromMeetingCommand;
+import seedu.address.logic.commands.DeleteMeetingCommand;
+import seedu.address.logic.commands.DeleteMeetingNoteCommand;
+import seedu.address.logic.commands.DeleteNoteCommand;
+import seedu.address.logic.commands.EditContactCommand;
+import seedu.address.logic.commands.EditMeetingCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ListContactCommand;
+import seedu.address.logic.commands.ListMeetingCommand;
+import seedu.address.logic.commands.ModeCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.ViewContactCommand;
+import seedu.address.logic.commands.ViewMeetingCommand;
+import seedu.address.ui.AppState.ModeType;
+
+/**
+ * An immutable table of the parser for each command word in each mode, which {@link AddressBookParser} dispatches
+ * commands through.
+ * <p>
+ * A command word can also be abbreviated to any prefix that no other command word in the mode begins with, such as
+ * {@code li} for {@code list}, unless it is registered as needing to be typed in full.
+ * New commands plug in by being registered in {@link #getDefault()}, or in a registry made with {@link Builder}.
+ */
+public class CommandRegistry {
+
+    private static final CommandRegistry DEFAULT = new Builder()
+            .registerInFull(ClearCommand.COMMAND_WORD, arguments -> new ClearCommand())
+            .register(ModeCommand.COMMAND_WORD, arguments -> new ModeCommand())
+            .register(HelpCommand.COMMAND_WORD, arguments -> new HelpCommand())
+            .register(ExitCommand.COMMAND_WORD, arguments -> new ExitCommand())
+            .register(StatsCommand.COMMAND_WORD, arguments -> new StatsCommand())
+            .register(ModeType.CONTACTS, AddContactCommand.COMMAND_WORD, new AddContactCommandParser())
+            .register(ModeType.CONTACTS, ViewContactCommand.COMMAND_WORD, new ViewContactCommandParser())
+            .register(ModeType.CONTACTS, EditContactCommand.COMMAND_WORD, new EditContactCommandParser())
+            .register(ModeType.CONTACTS, DeleteContactCommand.COMMAND_WORD, new DeleteContactCommandParser())
+            .register(ModeType.CONTACTS, ListContactCommand.COMMAND_WORD, new ListContactCommandParser())
+            .register(ModeType.CONTACTS, AddNoteCommand.COMMAND_WORD, new AddNoteCommandParser())
+            .register(ModeType.CONTACTS, DeleteNoteCommand.COMMAND_WORD, new DeleteNoteCommandParser())
+            .register(ModeType.MEETINGS, AddMeetingCommand.COMMAND_WORD, new AddMeetingCommandParser())
+            .register(ModeType.MEETINGS, ViewMeetingCommand.COMMAND_WORD, new ViewMeetingCommandParser())
+            .register(ModeType.MEETINGS, EditMeetingCommand.COMMAND_WORD, new EditMeetingCommandParser())
+            .register(ModeType.MEETINGS, DeleteMeetingCommand.COMMAND_WORD, new DeleteMeetingCommandParser())
+            .register(ModeType.MEETINGS, AddContactToMeetingCommand.COMMAND_WORD,
+                new AddContactToMeetingCommandParser())
+            .register(ModeType.MEETINGS, DeleteContactFromMeetingCommand.COMMAND_WORD,
+                new DeleteContactFromMeetingCommandParser())
+            .register(ModeType.MEETINGS, ListMeetingCommand.COMMAND_WORD, new ListMeetingCommandParser())
+            .register(ModeType.MEETINGS, AddMeetingNoteCommand.COMMAND_WORD, new AddMeetingNoteCommandParser())
+            .register(ModeType.MEETINGS, DeleteMeetingNoteCommand.COMMAND_WORD,
+                new DeleteMeetingNoteCommandParser())
+            .build();
+
+    private final Map<ModeType, Map<String, Parser<?>>> parsersByMode;
+    private final Map<ModeType, CommandWordTrie> abbreviableWordsByMode;
+
+    private CommandRegistry(Map<ModeType, Map<String, Parser<?>>> parsersByMode,
+                            Map<ModeType, CommandWordTrie> abbreviableWordsByMode) {
+        this.parsersByMode = parsersByMode;
+        this.abbreviableWordsByMode = abbreviableWordsByMode;
+    }
+
+    /**
+     * Returns the registry of every command in the app.
+     */
+    public static CommandRegistry getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Returns the command word in {@code mode} that {@code word} is or abbreviates, if there is exactly one.
+     */
+    public Optional<String> resolve(ModeType mode, String word) {
+        requireNonNull(mode);
+        if (parsersByMode.get(mode).containsKey(word)) {
+            return Optional.of(word);
+        }
+        return abbreviableWordsByMode.get(mode).resolve(word);
+    }
+
+    /**
+     * Returns the parser of {@code commandWord}, which must be a full command word, in {@code mode}.
+     */
+    public Optional<Parser<?>> getParser(ModeType mode, String commandWord) {
+        requireNonNull(mode);
+        return Optional.ofNullable(parsersByMode.get(mode).get(commandWord));
+    }
+
+    /**
+     * Returns the command words in {@code mode} that can be abbreviated to {@code prefix}, in alphabetical order.
+     */
+    public List<String> getCompletions(ModeType mode, String prefix) {
+        requireNonNull(mode);
+        return abbreviableWordsByMode.get(mode).getCompletions(prefix);
+    }
+
+    /**
+     * Collects the command words and parsers of a {@code CommandRegistry}.
+     */
+    public static class Builder {
+        private final Map<ModeType, Map<String, Parser<?>>> parsersByMode = new EnumMap<>(ModeType.class);
+        private final Map<ModeType, Set<String>> abbreviableWordsByMode = new EnumMap<>(ModeType.class);
+
+        /**
+         * Creates a builder with no commands.
+         */
+        public Builder() {
+            for (ModeType mode : ModeType.values()) {
+                parsersByMode.put(mode, new HashMap<>());
+                abbreviableWordsByMode.put(mode, new HashSet<>());
+            }
+        }
+
+        /**
+         * Registers {@code parser} for {@code commandWord} in every mode.
+         */
+        public Builder register(String commandWord, Parser<?> parser) {
+            for (ModeType mode : ModeType.values()) {
+                register(mode, commandWord, parser);
+            }
+            return this;
+        }
+
+        /**
+         * Registers {@code parser} for {@code commandWord} in {@code mode}.
+         */
+        public Builder register(ModeType mode, String commandWord, Parser<?> parser) {
+            putParser(mode, commandWord, parser);
+            abbreviableWordsByMode.get(mode).add(commandWord);
+            return this;
+        }
+
+        /**
+         * Registers {@code parser} for {@code commandWord} in every mode, where the word cannot be abbreviated,
+         * such as for a command that cannot be undone.
+         */
+        public Builder registerInFull(String commandWord, Parser<?> parser) {
+            for (ModeType mode : ModeType.values()) {
+                putParser(mode, commandWord, parser);
+            }
+            return this;
+        }
+
+        private void putParser(ModeType mode, String commandWord, Parser<?> parser) {
+            requireNonNull(parser);
+            if (parsersByMode.get(mode).putIfAbsent(commandWord, parser) != null) {
+                throw new IllegalArgumentException(
+                        "Command word " + commandWord + " is already registered in " + mode + " mode");
+            }
+        }
+
+        /**
+         * Returns a registry of the commands registered so far.
+         */
+        public CommandRegistry build() {
+            Map<ModeType, Map<String, Parser<?>>> parsers = new EnumMap<>(ModeType.class);
+            parsersByMode.forEach((mode, modeParsers) ->
+                    parsers.put(mode, Collections.unmodifiableMap(new HashMap<>(modeParsers))));
+            Map<ModeType, CommandWordTrie> words = new EnumMap<>(ModeType.class);
+            abbreviableWordsByMode.forEach((mode, modeWords) -> {
+                CommandWordTrie trie = new CommandWordTrie();
+                modeWords.forEach(trie::add);
+                words.put(mode, trie);
+            });
+            return new CommandRegistry(Collections.unmodifiableMap(parsers), Collections.unmodifiableMap(words));
+        }
+    }
+
+}
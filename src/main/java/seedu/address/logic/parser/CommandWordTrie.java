@@ -0,0 +1,95 @@
+package seedu.address.logic.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * A trie of command words, which finds the words that begin with what the user has typed so far.
+ * <p>
+ * Each node counts the words below it, so an abbreviation is resolved by walking one character at a time and then
+ * following the only branch down to its word, without looking at any other word.
+ */
+public class CommandWordTrie {
+
+    private final Node root = new Node();
+
+    /**
+     * Adds {@code word} to the trie, if it is not already in it.
+     */
+    public void add(String word) {
+        Node existing = find(word);
+        if (existing != null && existing.isWord) {
+            return;
+        }
+        Node node = root;
+        node.wordCount++;
+        for (int i = 0; i < word.length(); i++) {
+            node = node.children.computeIfAbsent(word.charAt(i), unused -> new Node());
+            node.wordCount++;
+        }
+        node.isWord = true;
+    }
+
+    /**
+     * Returns the word that {@code prefix} is, or failing that, the only word that begins with it.
+     * Returns an empty {@code Optional} if there is no such word or more than one.
+     */
+    public Optional<String> resolve(String prefix) {
+        Node node = find(prefix);
+        if (node == null || (!node.isWord && node.wordCount != 1)) {
+            return Optional.empty();
+        }
+
+        StringBuilder word = new StringBuilder(prefix);
+        while (!node.isWord) {
+            Map.Entry<Character, Node> onlyChild = node.children.firstEntry();
+            word.append(onlyChild.getKey());
+            node = onlyChild.getValue();
+        }
+        return Optional.of(word.toString());
+    }
+
+    /**
+     * Returns the words that begin with {@code prefix}, in alphabetical order.
+     */
+    public List<String> getCompletions(String prefix) {
+        List<String> completions = new ArrayList<>();
+        Node node = find(prefix);
+        if (node != null) {
+            collectWords(node, new StringBuilder(prefix), completions);
+        }
+        return completions;
+    }
+
+    private Node find(String prefix) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.children.get(prefix.charAt(i));
+        }
+        return node;
+    }
+
+    private static void collectWords(Node node, StringBuilder word, List<String> words) {
+        if (node.isWord) {
+            words.add(word.toString());
+        }
+        for (Map.Entry<Character, Node> child : node.children.entrySet()) {
+            word.append(child.getKey());
+            collectWords(child.getValue(), word, words);
+            word.setLength(word.length() - 1);
+        }
+    }
+
+    /**
+     * A node of the trie, reached by the characters of a prefix of one or more words.
+     */
+    private static class Node {
+        private final TreeMap<Character, Node> children = new TreeMap<>();
+        private int wordCount;
+        private boolean isWord;
+    }
+
+}
@@ -4,13 +4,14 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_QUERY;
 
 import java.util.Arrays;
-import java.util.List;
 
 import seedu.address.logic.commands.ListContactCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.contact.ContactFilterPredicate;
+import seedu.address.model.search.KeywordMatcher;
 
 
 /**
@@ -26,19 +27,20 @@ public class ListContactCommandParser implements Parser<ListContactCommand> {
     public ListContactCommand parse(String args) throws ParseException {
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
-                        PREFIX_NOTE);
+                        PREFIX_NOTE, PREFIX_QUERY);
 
         argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
-                PREFIX_NOTE);
+                PREFIX_NOTE, PREFIX_QUERY);
 
         String name = argMultimap.getValue(PREFIX_NAME).orElse("").trim();
-        List<String> nameKeywords = Arrays.asList(name.split("\\s+"));
+        KeywordMatcher nameKeywords = KeywordMatcher.compile(Arrays.asList(name.split("\\s+")));
         String phone = argMultimap.getValue(PREFIX_PHONE).orElse("");
         String email = argMultimap.getValue(PREFIX_EMAIL).orElse("").trim();
         String note = argMultimap.getValue(PREFIX_NOTE).orElse("");
-        List<String> noteKeywords = Arrays.asList(note.split("\\s+"));
+        KeywordMatcher noteKeywords = KeywordMatcher.compile(Arrays.asList(note.split("\\s+")));
+        String query = argMultimap.getValue(PREFIX_QUERY).orElse("").trim();
         return new ListContactCommand(new ContactFilterPredicate(nameKeywords,
-                phone, email, noteKeywords));
+                phone, email, noteKeywords), query);
     }
 }
 
@@ -3,16 +3,18 @@ package seedu.address.logic.parser;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PLACE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_QUERY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME_END;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME_START;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TITLE;
 
 import java.util.Arrays;
-import java.util.List;
 
 import seedu.address.logic.commands.ListMeetingCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.meeting.MeetingFilterPredicate;
+import seedu.address.model.meeting.Time;
+import seedu.address.model.search.KeywordMatcher;
 
 /**
  * Parses input arguments and creates a new ListMeetingCommand object
@@ -27,28 +29,32 @@ public class ListMeetingCommandParser implements Parser<ListMeetingCommand> {
     public ListMeetingCommand parse(String args) throws ParseException {
         ArgumentMultimap argMultimap =
             ArgumentTokenizer.tokenize(args, PREFIX_TITLE, PREFIX_TIME_START, PREFIX_TIME_END, PREFIX_PLACE,
-                PREFIX_DESCRIPTION, PREFIX_NOTE);
+                PREFIX_DESCRIPTION, PREFIX_NOTE, PREFIX_QUERY);
 
         argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_TITLE, PREFIX_TIME_START, PREFIX_TIME_END, PREFIX_PLACE,
-            PREFIX_DESCRIPTION, PREFIX_NOTE);
+            PREFIX_DESCRIPTION, PREFIX_NOTE, PREFIX_QUERY);
 
         String title = argMultimap.getValue(PREFIX_TITLE).orElse("").trim();
-        List<String> titleKeywords = Arrays.asList(title.split("\\s+"));
-        String timeStart = argMultimap.getValue(PREFIX_TIME_START).orElse("");
-        if (!timeStart.equals("")) { // check isValidTime
-            ParserUtil.parseTime(timeStart);
-        }
-        String timeEnd = argMultimap.getValue(PREFIX_TIME_END).orElse("");
-        if (!timeEnd.equals("")) { // check isValidTime
-            ParserUtil.parseTime(timeEnd);
-        }
+        KeywordMatcher titleKeywords = KeywordMatcher.compile(Arrays.asList(title.split("\\s+")));
+        Time timeStart = parseTimeBound(argMultimap.getValue(PREFIX_TIME_START).orElse(""));
+        Time timeEnd = parseTimeBound(argMultimap.getValue(PREFIX_TIME_END).orElse(""));
         String place = argMultimap.getValue(PREFIX_PLACE).orElse("").trim();
-        List<String> placeKeywords = Arrays.asList(place.split("\\s+"));
+        KeywordMatcher placeKeywords = KeywordMatcher.compile(Arrays.asList(place.split("\\s+")));
         String description = argMultimap.getValue(PREFIX_DESCRIPTION).orElse("").trim();
-        List<String> descriptionKeywords = Arrays.asList(description.split("\\s+"));
+        KeywordMatcher descriptionKeywords = KeywordMatcher.compile(Arrays.asList(description.split("\\s+")));
         String note = argMultimap.getValue(PREFIX_NOTE).orElse("");
-        List<String> noteKeywords = Arrays.asList(note.split("\\s+"));
+        KeywordMatcher noteKeywords = KeywordMatcher.compile(Arrays.asList(note.split("\\s+")));
+        String query = argMultimap.getValue(PREFIX_QUERY).orElse("").trim();
         return new ListMeetingCommand(new MeetingFilterPredicate(titleKeywords,
-            List.of(timeStart, timeEnd), placeKeywords, descriptionKeywords, noteKeywords));
+            timeStart, timeEnd, placeKeywords, descriptionKeywords, noteKeywords), query);
+    }
+
+    /**
+     * Parses {@code time} into a bound of the meeting times to list, or null if it is empty and there is no bound.
+     *
+     * @throws ParseException if the given {@code time} is invalid.
+     */
+    private static Time parseTimeBound(String time) throws ParseException {
+        return time.isEmpty() ? null : ParserUtil.parseTime(time);
     }
 }
@@ -2,19 +2,32 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.ContactField;
 import seedu.address.model.contact.UniqueContactList;
 import seedu.address.model.meeting.Meeting;
+import seedu.address.model.meeting.MeetingField;
 import seedu.address.model.meeting.UniqueMeetingList;
+import seedu.address.model.search.FieldFilter;
+import seedu.address.model.search.SearchIndex;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSameContact comparison)
+ * The meetings each contact is in are kept in an index, so that editing or removing a contact updates its meetings
+ * in time proportional to their number. Their text fields are kept in search indexes, which let list filters skip
+ * the contacts and meetings that cannot match.
+ * Every modification is recorded as an {@code AddressBookChange} until the changes are cleared, so that callers
+ * can tell whether the data needs saving and what has changed. Recording can be paused while filling an address
+ * book with data that is already saved.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
@@ -22,6 +35,16 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniqueMeetingList meetings;
 
+    private final ContactMeetingIndex links = new ContactMeetingIndex();
+
+    private final SearchIndex<Contact, ContactField> contactIndex;
+
+    private final SearchIndex<Meeting, MeetingField> meetingIndex;
+
+    private final List<AddressBookChange> changes = new ArrayList<>();
+
+    private boolean isRecordingChanges = true;
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -33,6 +56,9 @@ public class AddressBook implements ReadOnlyAddressBook {
     {
         contacts = new UniqueContactList();
         meetings = new UniqueMeetingList();
+        contactIndex = new SearchIndex<>(ContactField.class, Contact::getId, contacts.asUnmodifiableObservableList());
+        meetingIndex = new SearchIndex<>(MeetingField.class, Meeting::getId,
+            meeting -> meeting.getTime().toEpochMinute(), meetings.asUnmodifiableObservableList());
     }
 
     public AddressBook() {
@@ -53,7 +79,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code contacts} must not contain duplicate contacts.
      */
     public void setContacts(List<Contact> contacts) {
+        contactIndex.reset();
         this.contacts.setContacts(contacts);
+        recordReset();
     }
 
     /**
@@ -61,7 +89,10 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code meetings} must not contain duplicate meetings.
      */
     public void setMeetings(List<Meeting> meetings) {
+        meetingIndex.reset();
         this.meetings.setMeetings(meetings);
+        links.setMeetings(this.meetings);
+        recordReset();
     }
 
     /**
@@ -89,16 +120,13 @@ public class AddressBook implements ReadOnlyAddressBook {
      * The contact must not already exist in the address book.
      */
     public void addContact(Contact c) {
-        contacts.add(c);
-        contacts.sort();
-    }
-
-    public void sortContacts() {
-        contacts.sort();
+        applyIndexed(contactIndex, () -> contactIndex.add(c), () -> contacts.add(c));
+        record(AddressBookChange.contactAdded(c));
     }
 
     /**
-     * Replaces the given contact {@code target} in the list with {@code editedContact}.
+     * Replaces the given contact {@code target} in the list with {@code editedContact}, including in the meetings
+     * it is in.
      * {@code target} must exist in the address book.
      * The contact identity of {@code editedContact} must not be the same as another existing contact
      * in the address book.
@@ -106,15 +134,57 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setContact(Contact target, Contact editedContact) {
         requireNonNull(editedContact);
 
-        contacts.setContact(target, editedContact);
+        Contact current = contacts.find(target);
+        applyIndexed(contactIndex, () -> contactIndex.set(current, editedContact), () ->
+            contacts.setContact(current, editedContact));
+        record(AddressBookChange.contactEdited(current, editedContact));
+        replaceInMeetings(current, editedContact);
     }
 
     /**
-     * Removes {@code key} from this {@code AddressBook}.
+     * Removes {@code key} from this {@code AddressBook}, including from the meetings it is in.
      * {@code key} must exist in the address book.
      */
     public void removeContact(Contact key) {
-        contacts.remove(key);
+        Contact current = contacts.find(key);
+        applyIndexed(contactIndex, () -> contactIndex.remove(current), () -> contacts.remove(current));
+        record(AddressBookChange.contactRemoved(current));
+        replaceInMeetings(current, null);
+    }
+
+    /**
+     * Returns the meetings that {@code contact} is in, matched by its ID.
+     */
+    public List<Meeting> getMeetingsOf(Contact contact) {
+        requireNonNull(contact);
+
+        List<Meeting> meetingsOfContact = new ArrayList<>();
+        for (Long meetingId : links.getMeetingIds(contact.getId())) {
+            meetings.getById(meetingId).ifPresent(meetingsOfContact::add);
+        }
+        return meetingsOfContact;
+    }
+
+    /**
+     * Replaces {@code contact} with {@code replacement} in every meeting it is in, or removes it from them if
+     * {@code replacement} is null.
+     */
+    private void replaceInMeetings(Contact contact, Contact replacement) {
+        if (contact == replacement) {
+            return;
+        }
+
+        for (Meeting meeting : getMeetingsOf(contact)) {
+            List<Contact> updatedContacts = new ArrayList<>();
+            for (Contact meetingContact : meeting.getContacts()) {
+                if (meetingContact.getId() != contact.getId()) {
+                    updatedContacts.add(meetingContact);
+                } else if (replacement != null) {
+                    updatedContacts.add(replacement);
+                }
+            }
+            setMeeting(meeting, Meeting.editMeetingContacts(meeting, updatedContacts));
+        }
     }
 
     /**
@@ -130,12 +200,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      * Adds a meeting to NoteNote.
      */
     public void addMeeting(Meeting meeting) {
-        meetings.add(meeting);
-        meetings.sort();
-    }
-
-    public void sortMeetings() {
-        meetings.sort();
+        applyIndexed(meetingIndex, () -> meetingIndex.add(meeting), () -> meetings.add(meeting));
+        links.addMeeting(meeting);
+        record(AddressBookChange.meetingAdded(meeting));
     }
 
     /**
@@ -147,7 +214,11 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setMeeting(Meeting target, Meeting editedMeeting) {
         requireNonNull(editedMeeting);
 
-        meetings.setMeeting(target, editedMeeting);
+        Meeting current = meetings.find(target);
+        applyIndexed(meetingIndex, () -> meetingIndex.set(current, editedMeeting), () ->
+            meetings.setMeeting(current, editedMeeting));
+        links.setMeeting(current, editedMeeting);
+        record(AddressBookChange.meetingEdited(current, editedMeeting));
     }
 
     /**
@@ -155,11 +226,122 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removeMeeting(Meeting key) {
-        meetings.remove(key);
+        Meeting current = meetings.find(key);
+        applyIndexed(meetingIndex, () -> meetingIndex.remove(current), () -> meetings.remove(current));
+        links.removeMeeting(current);
+        record(AddressBookChange.meetingRemoved(current));
+    }
+
+    //// search
+
+    /**
+     * Returns a predicate equivalent to {@code filter} that uses this address book's search index to reject
+     * contacts that cannot match. It stays equivalent as this address book changes.
+     */
+    public Predicate<Contact> getContactFilter(FieldFilter<Contact, ContactField> filter) {
+        return contactIndex.filter(filter);
     }
 
-    public void update(Meeting meeting, Contact contact) {
-        meetings.update(meeting, contact);
+    /**
+     * Returns a predicate equivalent to {@code filter} that uses this address book's search index to reject
+     * meetings that cannot match. It stays equivalent as this address book changes.
+     */
+    public Predicate<Meeting> getMeetingFilter(FieldFilter<Meeting, MeetingField> filter) {
+        return meetingIndex.filter(filter);
+    }
+
+    /**
+     * Returns the contacts that pass {@code filter} and are most similar to {@code query}, most similar first, at
+     * most {@code limit} of them. See {@link SearchIndex#rank(String, Predicate, int)}.
+     */
+    public List<Contact> rankContacts(String query, Predicate<Contact> filter, int limit) {
+        return contactIndex.rank(query, filter, limit);
+    }
+
+    /**
+     * Returns the meetings that pass {@code filter} and are most similar to {@code query}, most similar first, at
+     * most {@code limit} of them. See {@link SearchIndex#rank(String, Predicate, int)}.
+     */
+    public List<Meeting> rankMeetings(String query, Predicate<Meeting> filter, int limit) {
+        return meetingIndex.rank(query, filter, limit);
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that has tested the contacts up front, in parallel if
+     * there are many of them. See {@link SearchIndex#precompute(Predicate)}.
+     */
+    public Predicate<Contact> precomputeContactFilter(Predicate<Contact> predicate) {
+        return contactIndex.precompute(predicate);
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that has tested the meetings up front, in parallel if
+     * there are many of them. See {@link SearchIndex#precompute(Predicate)}.
+     */
+    public Predicate<Meeting> precomputeMeetingFilter(Predicate<Meeting> predicate) {
+        return meetingIndex.precompute(predicate);
+    }
+
+    /**
+     * Tells {@code index} about a change through {@code indexChange} before making the change, so that filters
+     * using the index already see it when the changed list notifies its listeners. The index is discarded if the
+     * change fails, since it may then disagree with the list.
+     */
+    private static void applyIndexed(SearchIndex<?, ?> index, Runnable indexChange, Runnable change) {
+        indexChange.run();
+        try {
+            change.run();
+        } catch (RuntimeException e) {
+            index.reset();
+            throw e;
+        }
+    }
+
+    //// change tracking
+
+    /**
+     * Returns true if this {@code AddressBook} has been modified since its changes were last cleared.
+     */
+    public boolean hasChanges() {
+        return !changes.isEmpty();
+    }
+
+    /**
+     * Returns the modifications made since the changes were last cleared, oldest first.
+     */
+    public List<AddressBookChange> getChanges() {
+        return Collections.unmodifiableList(new ArrayList<>(changes));
+    }
+
+    /**
+     * Forgets all recorded modifications, e.g. after the current state has been saved.
+     */
+    public void clearChanges() {
+        changes.clear();
+    }
+
+    /**
+     * Pauses or resumes recording modifications. Modifications made while recording is paused are not recorded at
+     * all, so this is only for filling the address book with data that is already saved, such as while loading it.
+     */
+    public void setRecordingChanges(boolean isRecordingChanges) {
+        this.isRecordingChanges = isRecordingChanges;
+    }
+
+    private void record(AddressBookChange change) {
+        if (isRecordingChanges) {
+            changes.add(change);
+        }
+    }
+
+    /**
+     * Records that the whole address book was replaced, which makes all earlier changes irrelevant.
+     */
+    private void recordReset() {
+        if (isRecordingChanges) {
+            changes.clear();
+            changes.add(AddressBookChange.reset());
+        }
     }
 
     //// util methods
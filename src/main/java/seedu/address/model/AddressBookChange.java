@@ -0,0 +1,169 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.meeting.Meeting;
+
+/**
+ * Represents a single modification made to an {@code AddressBook}.
+ * Applying a sequence of changes in order to the address book as it was last saved reproduces its current state,
+ * which lets storage backends persist only what has changed.
+ */
+public class AddressBookChange {
+
+    /**
+     * The kinds of modification that are recorded.
+     */
+    public enum Type {
+        CONTACT_ADDED, CONTACT_REMOVED, CONTACT_EDITED,
+        MEETING_ADDED, MEETING_REMOVED, MEETING_EDITED,
+        /** The whole address book was replaced; the change carries no entries. */
+        RESET
+    }
+
+    private static final AddressBookChange RESET = new AddressBookChange(Type.RESET, null, null, null, null);
+
+    private final Type type;
+    private final Contact contact;
+    private final Contact editedContact;
+    private final Meeting meeting;
+    private final Meeting editedMeeting;
+
+    private AddressBookChange(Type type, Contact contact, Contact editedContact,
+                              Meeting meeting, Meeting editedMeeting) {
+        this.type = type;
+        this.contact = contact;
+        this.editedContact = editedContact;
+        this.meeting = meeting;
+        this.editedMeeting = editedMeeting;
+    }
+
+    /**
+     * Returns a change recording that {@code contact} was added.
+     */
+    public static AddressBookChange contactAdded(Contact contact) {
+        requireNonNull(contact);
+        return new AddressBookChange(Type.CONTACT_ADDED, null, contact, null, null);
+    }
+
+    /**
+     * Returns a change recording that {@code contact} was removed.
+     */
+    public static AddressBookChange contactRemoved(Contact contact) {
+        requireNonNull(contact);
+        return new AddressBookChange(Type.CONTACT_REMOVED, contact, null, null, null);
+    }
+
+    /**
+     * Returns a change recording that {@code target} was replaced by {@code editedContact}.
+     */
+    public static AddressBookChange contactEdited(Contact target, Contact editedContact) {
+        requireNonNull(target);
+        requireNonNull(editedContact);
+        return new AddressBookChange(Type.CONTACT_EDITED, target, editedContact, null, null);
+    }
+
+    /**
+     * Returns a change recording that {@code meeting} was added.
+     */
+    public static AddressBookChange meetingAdded(Meeting meeting) {
+        requireNonNull(meeting);
+        return new AddressBookChange(Type.MEETING_ADDED, null, null, null, meeting);
+    }
+
+    /**
+     * Returns a change recording that {@code meeting} was removed.
+     */
+    public static AddressBookChange meetingRemoved(Meeting meeting) {
+        requireNonNull(meeting);
+        return new AddressBookChange(Type.MEETING_REMOVED, null, null, meeting, null);
+    }
+
+    /**
+     * Returns a change recording that {@code target} was replaced by {@code editedMeeting}.
+     * {@code target} and {@code editedMeeting} may be the same object if the meeting was modified in place.
+     */
+    public static AddressBookChange meetingEdited(Meeting target, Meeting editedMeeting) {
+        requireNonNull(target);
+        requireNonNull(editedMeeting);
+        return new AddressBookChange(Type.MEETING_EDITED, null, null, target, editedMeeting);
+    }
+
+    /**
+     * Returns a change recording that the whole address book was replaced.
+     */
+    public static AddressBookChange reset() {
+        return RESET;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the contact as it was before this change, or null if this change did not remove or edit a contact.
+     */
+    public Contact getContact() {
+        return contact;
+    }
+
+    /**
+     * Returns the contact as it is after this change, or null if this change did not add or edit a contact.
+     */
+    public Contact getEditedContact() {
+        return editedContact;
+    }
+
+    /**
+     * Returns the meeting as it was before this change, or null if this change did not remove or edit a meeting.
+     */
+    public Meeting getMeeting() {
+        return meeting;
+    }
+
+    /**
+     * Returns the meeting as it is after this change, or null if this change did not add or edit a meeting.
+     */
+    public Meeting getEditedMeeting() {
+        return editedMeeting;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBookChange)) {
+            return false;
+        }
+
+        AddressBookChange otherChange = (AddressBookChange) other;
+        return type == otherChange.type
+            && Objects.equals(contact, otherChange.contact)
+            && Objects.equals(editedContact, otherChange.editedContact)
+            && Objects.equals(meeting, otherChange.meeting)
+            && Objects.equals(editedMeeting, otherChange.editedMeeting);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, contact, editedContact, meeting, editedMeeting);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+            .add("type", type)
+            .add("contact", contact)
+            .add("editedContact", editedContact)
+            .add("meeting", meeting)
+            .add("editedMeeting", editedMeeting)
+            .toString();
+    }
+}
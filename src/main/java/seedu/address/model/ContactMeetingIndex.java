@@ -0,0 +1,83 @@
+package seedu.address.model;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.contact.Contact;
+import seedu.address.model.meeting.Meeting;
+
+/**
+ * Links each contact to the meetings it is in, and each meeting to its contacts, by their IDs.
+ * Links are derived from the contacts of each meeting, so the index is updated whenever a meeting is added, replaced
+ * or removed. Finding the meetings of a contact takes time proportional to the number of such meetings.
+ */
+class ContactMeetingIndex {
+
+    private final Map<Long, Set<Long>> meetingIdsByContactId = new HashMap<>();
+    private final Map<Long, Set<Long>> contactIdsByMeetingId = new HashMap<>();
+
+    /**
+     * Links {@code meeting} to each of its contacts.
+     */
+    void addMeeting(Meeting meeting) {
+        Set<Long> contactIds = new LinkedHashSet<>();
+        for (Contact contact : meeting.getContacts()) {
+            contactIds.add(contact.getId());
+            meetingIdsByContactId.computeIfAbsent(contact.getId(), unused -> new LinkedHashSet<>())
+                .add(meeting.getId());
+        }
+        contactIdsByMeetingId.put(meeting.getId(), contactIds);
+    }
+
+    /**
+     * Removes the links of the meeting with the same ID as {@code meeting}.
+     */
+    void removeMeeting(Meeting meeting) {
+        Set<Long> contactIds = contactIdsByMeetingId.remove(meeting.getId());
+        if (contactIds == null) {
+            return;
+        }
+        for (Long contactId : contactIds) {
+            Set<Long> meetingIds = meetingIdsByContactId.get(contactId);
+            meetingIds.remove(meeting.getId());
+            if (meetingIds.isEmpty()) {
+                meetingIdsByContactId.remove(contactId);
+            }
+        }
+    }
+
+    /**
+     * Replaces the links of {@code target} with those of {@code editedMeeting}.
+     */
+    void setMeeting(Meeting target, Meeting editedMeeting) {
+        removeMeeting(target);
+        addMeeting(editedMeeting);
+    }
+
+    /**
+     * Replaces all links with those of {@code meetings}.
+     */
+    void setMeetings(Iterable<Meeting> meetings) {
+        meetingIdsByContactId.clear();
+        contactIdsByMeetingId.clear();
+        meetings.forEach(this::addMeeting);
+    }
+
+    /**
+     * Returns the IDs of the meetings that the contact with the given ID is in, in the order they were linked.
+     */
+    Set<Long> getMeetingIds(long contactId) {
+        return Collections.unmodifiableSet(meetingIdsByContactId.getOrDefault(contactId, Collections.emptySet()));
+    }
+
+    /**
+     * Returns the IDs of the contacts of the meeting with the given ID.
+     */
+    Set<Long> getContactIds(long meetingId) {
+        return Collections.unmodifiableSet(contactIdsByMeetingId.getOrDefault(meetingId, Collections.emptySet()));
+    }
+
+}
@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -18,6 +19,9 @@ public interface Model {
     Predicate<Contact> PREDICATE_SHOW_ALL_CONTACTS = unused -> true;
     Predicate<Meeting> PREDICATE_SHOW_ALL_MEETINGS = unused -> true;
 
+    /** The most contacts or meetings a ranked list shows. */
+    int MAX_RANKED_RESULTS = 50;
+
     public final String MESSAGE_CONSTRAINTS = "Mode type should be either contacts or meetings";
 
     /**
@@ -60,13 +64,28 @@ public interface Model {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns true if the address book has been modified since it was last marked as saved.
+     */
+    boolean hasUnsavedChanges();
+
+    /**
+     * Returns the modifications made to the address book since it was last marked as saved, oldest first.
+     */
+    List<AddressBookChange> getUnsavedChanges();
+
+    /**
+     * Marks the current state of the address book as saved.
+     */
+    void markAddressBookSaved();
+
     /**
      * Returns true if a contact with the same identity as {@code contact} exists in the address book.
      */
     boolean hasContact(Contact contact);
 
     /**
-     * Deletes the given contact.
+     * Deletes the given contact, including from the meetings it is in.
      * The contact must exist in the address book.
      */
     void deleteContact(Contact target);
@@ -78,7 +97,7 @@ public interface Model {
     void addContact(Contact contact);
 
     /**
-     * Replaces the given contact {@code target} with {@code editedContact}.
+     * Replaces the given contact {@code target} with {@code editedContact}, including in the meetings it is in.
      * {@code target} must exist in the address book.
      * The contact identity of {@code editedContact} must not be the same as another existing contact
      * in the address book.
@@ -97,6 +116,14 @@ public interface Model {
      */
     void updateFilteredContactList(Predicate<Contact> predicate);
 
+    /**
+     * Updates the filtered contact list to show the contacts that pass {@code predicate} and are most similar to
+     * {@code query}, most similar first, at most {@link #MAX_RANKED_RESULTS} of them.
+     *
+     * @throws NullPointerException if {@code predicate} or {@code query} is null.
+     */
+    void rankFilteredContactList(Predicate<Contact> predicate, String query);
+
     /**
      * Deletes the given meeting.
      * The meeting must exist in the address book.
@@ -109,12 +136,9 @@ public interface Model {
     void addMeeting(Meeting meeting);
 
     /**
-     * Removes the contact from the meeting in AddressBook
-     *
-     * @param meeting meeting that contains the contact
-     * @param contact contact to be removed
+     * Returns the meetings that {@code contact} is in.
      */
-    void update(Meeting meeting, Contact contact);
+    List<Meeting> getMeetingsOf(Contact contact);
 
     /**
      * Replaces the given meeting {@code target} with {@code editedMeeting}.
@@ -134,16 +158,18 @@ public interface Model {
      */
     ObservableList<Meeting> getFilteredMeetingList();
 
-    /* Sorts the uniqueContactList in lexicographical order */
-    void sortContacts();
-
-    /* Sorts the uniqueContactList in chronological order */
-    void sortMeetings();
-
     /**
      * Updates the filter of the filtered meeting list to filter by the given {@code predicate}.
      *
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredMeetingList(Predicate<Meeting> predicate);
+
+    /**
+     * Updates the filtered meeting list to show the meetings that pass {@code predicate} and are most similar to
+     * {@code query}, most similar first, at most {@link #MAX_RANKED_RESULTS} of them.
+     *
+     * @throws NullPointerException if {@code predicate} or {@code query} is null.
+     */
+    void rankFilteredMeetingList(Predicate<Meeting> predicate, String query);
 }
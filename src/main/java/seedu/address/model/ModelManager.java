@@ -4,15 +4,23 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.ContactFilterPredicate;
 import seedu.address.model.meeting.Meeting;
+import seedu.address.model.meeting.MeetingFilterPredicate;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -24,6 +32,8 @@ public class ModelManager implements Model {
     private final UserPrefs userPrefs;
     private final FilteredList<Contact> filteredContacts;
     private final FilteredList<Meeting> filteredMeetings;
+    private final SortedList<Contact> sortedContacts;
+    private final SortedList<Meeting> sortedMeetings;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -37,6 +47,8 @@ public class ModelManager implements Model {
         this.userPrefs = new UserPrefs(userPrefs);
         filteredContacts = new FilteredList<>(this.addressBook.getContactList());
         filteredMeetings = new FilteredList<>(this.addressBook.getMeetingList());
+        sortedContacts = new SortedList<>(filteredContacts);
+        sortedMeetings = new SortedList<>(filteredMeetings);
     }
 
     public ModelManager() {
@@ -90,6 +102,21 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public boolean hasUnsavedChanges() {
+        return addressBook.hasChanges();
+    }
+
+    @Override
+    public List<AddressBookChange> getUnsavedChanges() {
+        return addressBook.getChanges();
+    }
+
+    @Override
+    public void markAddressBookSaved() {
+        addressBook.clearChanges();
+    }
+
     @Override
     public boolean hasContact(Contact contact) {
         requireNonNull(contact);
@@ -138,8 +165,10 @@ public class ModelManager implements Model {
         return addressBook.hasMeeting(meeting);
     }
 
-    public void update(Meeting meeting, Contact contact) {
-        addressBook.update(meeting, contact);
+    @Override
+    public List<Meeting> getMeetingsOf(Contact contact) {
+        requireNonNull(contact);
+        return addressBook.getMeetingsOf(contact);
     }
 
     /**
@@ -148,36 +177,78 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Contact> getFilteredContactList() {
-        return filteredContacts;
+        return sortedContacts;
     }
 
     @Override
     public ObservableList<Meeting> getFilteredMeetingList() {
-        return filteredMeetings;
+        return sortedMeetings;
     }
 
     @Override
     public void updateFilteredContactList(Predicate<Contact> predicate) {
         requireNonNull(predicate);
-        filteredContacts.setPredicate(predicate);
-        addressBook.sortContacts();
+        sortedContacts.setComparator(null);
+        if (predicate == PREDICATE_SHOW_ALL_CONTACTS) {
+            filteredContacts.setPredicate(predicate);
+            return;
+        }
+        filteredContacts.setPredicate(addressBook.precomputeContactFilter(indexedContactFilter(predicate)));
     }
 
     @Override
-    public void sortContacts() {
-        addressBook.sortContacts();
+    public void rankFilteredContactList(Predicate<Contact> predicate, String query) {
+        requireAllNonNull(predicate, query);
+        List<Contact> ranked = addressBook.rankContacts(query, indexedContactFilter(predicate), MAX_RANKED_RESULTS);
+        showRanked(filteredContacts, sortedContacts, ranked, Contact::getId);
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate}, which answers keyword filters through the search index
+     * instead of testing every contact in full.
+     */
+    private Predicate<Contact> indexedContactFilter(Predicate<Contact> predicate) {
+        return predicate instanceof ContactFilterPredicate
+            ? addressBook.getContactFilter((ContactFilterPredicate) predicate)
+            : predicate;
     }
 
     @Override
     public void updateFilteredMeetingList(Predicate<Meeting> predicate) {
         requireNonNull(predicate);
-        filteredMeetings.setPredicate(predicate);
-        addressBook.sortMeetings();
+        sortedMeetings.setComparator(null);
+        if (predicate == PREDICATE_SHOW_ALL_MEETINGS) {
+            filteredMeetings.setPredicate(predicate);
+            return;
+        }
+        filteredMeetings.setPredicate(addressBook.precomputeMeetingFilter(indexedMeetingFilter(predicate)));
     }
 
     @Override
-    public void sortMeetings() {
-        addressBook.sortMeetings();
+    public void rankFilteredMeetingList(Predicate<Meeting> predicate, String query) {
+        requireAllNonNull(predicate, query);
+        List<Meeting> ranked = addressBook.rankMeetings(query, indexedMeetingFilter(predicate), MAX_RANKED_RESULTS);
+        showRanked(filteredMeetings, sortedMeetings, ranked, Meeting::getId);
+    }
+
+    private Predicate<Meeting> indexedMeetingFilter(Predicate<Meeting> predicate) {
+        return predicate instanceof MeetingFilterPredicate
+            ? addressBook.getMeetingFilter((MeetingFilterPredicate) predicate)
+            : predicate;
+    }
+
+    /**
+     * Shows only the entries in {@code ranked} in {@code sorted}, in the same order. Entries edited afterwards keep
+     * their place, as they are matched by {@code idOf}.
+     */
+    private static <T> void showRanked(FilteredList<T> filtered, SortedList<T> sorted, List<T> ranked,
+                                       ToLongFunction<T> idOf) {
+        Map<Long, Integer> rankById = new HashMap<>();
+        for (int rank = 0; rank < ranked.size(); rank++) {
+            rankById.put(idOf.applyAsLong(ranked.get(rank)), rank);
+        }
+        filtered.setPredicate(entry -> rankById.containsKey(idOf.applyAsLong(entry)));
+        sorted.setComparator(Comparator.comparingInt(entry -> rankById.get(idOf.applyAsLong(entry))));
     }
 
     @Override
@@ -194,8 +265,8 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         boolean addressBookCheck = addressBook.equals(otherModelManager.addressBook);
         boolean userPrefsCheck = userPrefs.equals(otherModelManager.userPrefs);
-        boolean filteredContactsCheck = filteredContacts.equals(otherModelManager.filteredContacts);
-        boolean filteredMeetingsCheck = filteredMeetings.equals(otherModelManager.filteredMeetings);
+        boolean filteredContactsCheck = sortedContacts.equals(otherModelManager.sortedContacts);
+        boolean filteredMeetingsCheck = sortedMeetings.equals(otherModelManager.sortedMeetings);
         return addressBookCheck && userPrefsCheck && filteredContactsCheck && filteredMeetingsCheck;
     }
 }
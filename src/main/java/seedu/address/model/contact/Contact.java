@@ -5,19 +5,21 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Objects;
 
 import seedu.address.commons.util.ToStringBuilder;
-import seedu.address.model.Model;
-import seedu.address.model.meeting.Meeting;
 import seedu.address.model.note.Note;
+import seedu.address.model.search.KeywordMatcher;
+import seedu.address.model.util.IdGenerator;
 
 /**
  * Represents a Contact in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ * Every contact has an ID that is kept by its edited versions; it is what meetings use to refer to the contact.
  */
 public class Contact implements Comparable<Contact> {
 
+    private final long id;
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -26,19 +28,30 @@ public class Contact implements Comparable<Contact> {
     // Data fields
     private final ArrayList<Note> notes = new ArrayList<>();
 
-    // Observer
-    private ArrayList<Meeting> observerList = new ArrayList<>();
+    /**
+     * Creates a new contact with a new ID.
+     * Every field must be present and not null.
+     */
+    public Contact(Name name, Phone phone, Email email, List<Note> notes) {
+        this(IdGenerator.nextId(), name, phone, email, notes);
+    }
 
     /**
+     * Creates a contact with the given {@code id}, such as an edited version of an existing contact.
      * Every field must be present and not null.
      */
-    public Contact(Name name, Phone phone, Email email, List<Note> notes, List<Meeting> observers) {
+    public Contact(long id, Name name, Phone phone, Email email, List<Note> notes) {
         requireAllNonNull(name, phone, email, notes);
+        IdGenerator.reserve(id);
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
         this.notes.addAll(notes);
-        this.observerList.addAll(observers);
+    }
+
+    public long getId() {
+        return id;
     }
 
     public Name getName() {
@@ -69,9 +82,16 @@ public class Contact implements Comparable<Contact> {
      * @return Contact object with new notes list, while all other attributes remain the same
      */
     public static Contact editContactNotes(Contact contactToEdit, List<Note> updatedNotesList) {
-        return new Contact(
+        return new Contact(contactToEdit.getId(),
             contactToEdit.getName(), contactToEdit.getPhone(), contactToEdit.getEmail(),
-            updatedNotesList, contactToEdit.getObservers());
+            updatedNotesList);
+    }
+
+    /**
+     * Returns true if any note of this contact contains a keyword of {@code matcher}.
+     */
+    public boolean hasNoteMatching(KeywordMatcher matcher) {
+        return matcher.matchesAny(notes);
     }
 
     public String getNoteString() {
@@ -88,30 +108,6 @@ public class Contact implements Comparable<Contact> {
         return sb.toString();
     }
 
-    public ArrayList<Meeting> getObservers() {
-        return this.observerList;
-    }
-
-    /**
-     * Removes the contact from all the meeting that observes it if this contact has been deleted via
-     * DeleteContactCommand
-     */
-    public void notifyObservers(Model model) {
-        for (Meeting observer : observerList) {
-            observer.remove(this);
-            model.update(observer, this);
-        }
-    }
-
-    /**
-     * Add a meeting to the observerList
-     *
-     * @param meeting the meeting to be added to the observerList
-     */
-    public void addObserver(Meeting meeting) {
-        observerList.add(meeting);
-    }
-
     /**
      * Returns true if both contacts have the same name.
      * This defines a weaker notion of equality between two contacts.
@@ -127,7 +123,8 @@ public class Contact implements Comparable<Contact> {
 
     /**
      * Returns true if both contacts have the same identity and data fields.
-     * This defines a stronger notion of equality between two contacts.
+     * This defines a stronger notion of equality between two contacts. The ID is not compared, so a contact
+     * rebuilt with the same details is equal to the original.
      */
     @Override
     public boolean equals(Object other) {
@@ -155,8 +152,8 @@ public class Contact implements Comparable<Contact> {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, notes);
+        // Equal contacts have equal names, and hashing the name alone avoids hashing every note
+        return name.hashCode();
     }
 
     @Override
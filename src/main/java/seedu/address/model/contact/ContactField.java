@@ -0,0 +1,26 @@
+package seedu.address.model.contact;
+
+import java.util.function.Function;
+
+import seedu.address.model.search.SearchField;
+
+/**
+ * The fields of a {@code Contact} that can be searched.
+ */
+public enum ContactField implements SearchField<Contact> {
+    NAME(contact -> contact.getName().fullName),
+    PHONE(contact -> contact.getPhone().value),
+    EMAIL(contact -> contact.getEmail().value),
+    NOTES(Contact::getNoteString);
+
+    private final Function<Contact, String> getter;
+
+    ContactField(Function<Contact, String> getter) {
+        this.getter = getter;
+    }
+
+    @Override
+    public String valueOf(Contact contact) {
+        return getter.apply(contact);
+    }
+}
@@ -1,39 +1,59 @@
 package seedu.address.model.contact;
 
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Map;
+
+import seedu.address.model.search.FieldFilter;
+import seedu.address.model.search.KeywordMatcher;
 
 /**
  * Tests that a {@code Contact}'s {@code all values} matches any of the keywords given.
  */
-public class ContactFilterPredicate implements Predicate<Contact> {
-    private final List<String> nameKeywords;
+public class ContactFilterPredicate implements FieldFilter<Contact, ContactField> {
+    private final KeywordMatcher nameKeywords;
     private final String phoneNumber;
     private final String emailAddress;
-    private final List<String> noteKeywords;
+    private final String lowerCaseEmailAddress;
+    private final KeywordMatcher noteKeywords;
 
     /**
      * Contructs the ContactFilterPredicate class
      */
-    public ContactFilterPredicate(List<String> nameKeywords, String phoneNumber,
-                                  String emailAddress, List<String> noteKeywords) {
+    public ContactFilterPredicate(KeywordMatcher nameKeywords, String phoneNumber,
+                                  String emailAddress, KeywordMatcher noteKeywords) {
         this.nameKeywords = nameKeywords;
         this.phoneNumber = phoneNumber;
         this.emailAddress = emailAddress;
+        this.lowerCaseEmailAddress = emailAddress.toLowerCase();
         this.noteKeywords = noteKeywords;
     }
 
+    @Override
+    public Map<ContactField, List<String>> getFieldKeywords() {
+        Map<ContactField, List<String>> fieldKeywords = new EnumMap<>(ContactField.class);
+        if (!nameKeywords.isUnconstrained()) {
+            fieldKeywords.put(ContactField.NAME, nameKeywords.getKeywords());
+        }
+        if (!phoneNumber.isEmpty()) {
+            fieldKeywords.put(ContactField.PHONE, Collections.singletonList(phoneNumber));
+        }
+        if (!emailAddress.isEmpty()) {
+            fieldKeywords.put(ContactField.EMAIL, Collections.singletonList(emailAddress));
+        }
+        if (!noteKeywords.isUnconstrained()) {
+            fieldKeywords.put(ContactField.NOTES, noteKeywords.getKeywords());
+        }
+        return fieldKeywords;
+    }
+
     @Override
     public boolean test(Contact contact) {
-        boolean name = (nameKeywords.size() == 1 && nameKeywords.get(0).isEmpty()) || nameKeywords.stream()
-                .anyMatch(keyword -> contact.getName().fullName.toLowerCase().contains(keyword.toLowerCase()));
-        boolean email = emailAddress.isEmpty() || contact.getEmail().value.toLowerCase()
-                .contains(emailAddress.toLowerCase());
-        boolean phone = phoneNumber.isEmpty() || contact.getPhone().value.contains(phoneNumber);
-        boolean note = (noteKeywords.size() == 1 && noteKeywords.get(0).isEmpty())
-                || noteKeywords.stream().anyMatch(keyword -> contact.getNoteString().toLowerCase()
-                .contains(keyword.toLowerCase()));
-        return name && email && phone && note;
+        return nameKeywords.matches(contact.getName().toLowerCase())
+                && contact.getEmail().toLowerCase().contains(lowerCaseEmailAddress)
+                && contact.getPhone().value.contains(phoneNumber)
+                && contact.hasNoteMatching(noteKeywords);
     }
 
     @Override
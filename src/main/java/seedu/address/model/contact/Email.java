@@ -32,6 +32,7 @@ public class Email {
     public static final String VALIDATION_REGEX = LOCAL_PART_REGEX + "@" + DOMAIN_REGEX;
 
     public final String value;
+    private final String lowerCaseValue;
 
     /**
      * Constructs an {@code Email}.
@@ -42,6 +43,7 @@ public class Email {
         requireNonNull(email);
         checkArgument(isValidEmail(email), MESSAGE_CONSTRAINTS);
         value = email;
+        lowerCaseValue = email.toLowerCase();
     }
 
     /**
@@ -51,6 +53,13 @@ public class Email {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the email address in lower case, which is worked out once for case-insensitive searches.
+     */
+    public String toLowerCase() {
+        return lowerCaseValue;
+    }
+
     @Override
     public String toString() {
         return value;
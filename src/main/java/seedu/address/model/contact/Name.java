@@ -19,6 +19,7 @@ public class Name {
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
     public final String fullName;
+    private final String lowerCaseValue;
 
     /**
      * Constructs a {@code Name}.
@@ -29,6 +30,7 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        lowerCaseValue = name.toLowerCase();
     }
 
     /**
@@ -39,6 +41,13 @@ public class Name {
     }
 
 
+    /**
+     * Returns the name in lower case, which is worked out once for case-insensitive searches.
+     */
+    public String toLowerCase() {
+        return lowerCaseValue;
+    }
+
     @Override
     public String toString() {
         return fullName;
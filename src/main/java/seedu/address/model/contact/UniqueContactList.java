@@ -3,9 +3,14 @@ package seedu.address.model.contact;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -16,8 +21,13 @@ import seedu.address.model.contact.exceptions.DuplicateContactException;
  * A list of contacts that enforces uniqueness between its elements and does not allow nulls.
  * A contact is considered unique by comparing using {@code Contact#isSameContact(Contact)}. As such, adding
  * and updating of contacts uses Contact#isSameContact(Contact) for equality so as to ensure that
- * the contact being added or updated is unique in terms of identity in the UniqueContactList. However, the removal of
- * a contact uses Contact#equals(Object) so as to ensure that the contact with exactly the same fields will be removed.
+ * the contact being added or updated is unique in terms of identity in the UniqueContactList. The contact to replace
+ * or remove is found by its ID, so an outdated copy of a contact still finds its current version. A contact that is
+ * not in the list under its ID is matched using Contact#equals(Object) instead.
+ * <p>
+ * Identity lookups are served by {@code Name}-keyed and ID-keyed indexes that are kept in sync with the backing
+ * list, so duplicate checks and lookups do not need to scan the list. The backing list is kept in the natural order of
+ * {@code Contact} at all times, so positions are found by binary search.
  * <p>
  * Supports a minimal set of list operations.
  *
@@ -28,25 +38,29 @@ public class UniqueContactList implements Iterable<Contact> {
     private final ObservableList<Contact> internalList = FXCollections.observableArrayList();
     private final ObservableList<Contact> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Name, Contact> contactsByName = new HashMap<>();
+    private final Map<Long, Contact> contactsById = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent contact as the given argument.
      */
     public boolean contains(Contact toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameContact);
+        return contactsByName.containsKey(toCheck.getName());
     }
 
     /**
-     * Adds a contact to the list.
+     * Adds a contact to the list at its sorted position.
      * The contact must not already exist in the list.
      */
     public void add(Contact toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (contains(toAdd) || contactsById.containsKey(toAdd.getId())) {
             throw new DuplicateContactException();
         }
-        internalList.add(toAdd);
+        contactsByName.put(toAdd.getName(), toAdd);
+        contactsById.put(toAdd.getId(), toAdd);
+        internalList.add(insertionPoint(toAdd), toAdd);
     }
 
     /**
@@ -57,16 +71,25 @@ public class UniqueContactList implements Iterable<Contact> {
     public void setContact(Contact target, Contact editedContact) {
         requireAllNonNull(target, editedContact);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
-            throw new ContactNotFoundException();
+        Contact current = find(target);
+        if (!current.isSameContact(editedContact) && contains(editedContact)) {
+            throw new DuplicateContactException();
         }
-
-        if (!target.isSameContact(editedContact) && contains(editedContact)) {
+        if (current.getId() != editedContact.getId() && contactsById.containsKey(editedContact.getId())) {
             throw new DuplicateContactException();
         }
 
-        internalList.set(index, editedContact);
+        int index = Collections.binarySearch(internalList, current);
+        contactsByName.remove(current.getName());
+        contactsById.remove(current.getId());
+        contactsByName.put(editedContact.getName(), editedContact);
+        contactsById.put(editedContact.getId(), editedContact);
+        if (fitsAt(index, editedContact)) {
+            internalList.set(index, editedContact);
+        } else {
+            internalList.remove(index);
+            internalList.add(insertionPoint(editedContact), editedContact);
+        }
     }
 
     /**
@@ -75,31 +98,74 @@ public class UniqueContactList implements Iterable<Contact> {
      */
     public void remove(Contact toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Contact current = find(toRemove);
+        contactsByName.remove(current.getName());
+        contactsById.remove(current.getId());
+        internalList.remove(Collections.binarySearch(internalList, current));
+    }
+
+    /**
+     * Returns the contact in the list with the same ID as {@code contact}, or failing that, one equal to it.
+     *
+     * @throws ContactNotFoundException if there is no such contact.
+     */
+    public Contact find(Contact contact) {
+        requireNonNull(contact);
+        Contact current = contactsById.get(contact.getId());
+        if (current != null) {
+            return current;
+        }
+
+        current = contactsByName.get(contact.getName());
+        if (!contact.equals(current)) {
             throw new ContactNotFoundException();
         }
+        return current;
+    }
+
+    /**
+     * Returns the contact in the list with the given {@code id}, if any.
+     */
+    public Optional<Contact> getById(long id) {
+        return Optional.ofNullable(contactsById.get(id));
     }
 
     public void setContacts(UniqueContactList replacement) {
         requireNonNull(replacement);
+        contactsByName.clear();
+        contactsByName.putAll(replacement.contactsByName);
+        contactsById.clear();
+        contactsById.putAll(replacement.contactsById);
         internalList.setAll(replacement.internalList);
     }
 
     /**
-     * Replaces the contents of this list with {@code contacts}.
+     * Replaces the contents of this list with {@code contacts}, sorted.
      * {@code contacts} must not contain duplicate contacts.
      */
     public void setContacts(List<Contact> contacts) {
         requireAllNonNull(contacts);
-        if (!contactsAreUnique(contacts)) {
-            throw new DuplicateContactException();
+        List<String> duplicateGroups = findDuplicateGroups(contacts);
+        if (!duplicateGroups.isEmpty()) {
+            throw new DuplicateContactException(duplicateGroups);
         }
 
-        internalList.setAll(contacts);
-    }
+        Map<Long, Contact> newContactsById = new HashMap<>();
+        for (Contact contact : contacts) {
+            if (newContactsById.put(contact.getId(), contact) != null) {
+                throw new DuplicateContactException();
+            }
+        }
 
-    public void sort() {
-        Collections.sort(internalList);
+        List<Contact> sortedContacts = new ArrayList<>(contacts);
+        Collections.sort(sortedContacts);
+        contactsByName.clear();
+        for (Contact contact : sortedContacts) {
+            contactsByName.put(contact.getName(), contact);
+        }
+        contactsById.clear();
+        contactsById.putAll(newContactsById);
+        internalList.setAll(sortedContacts);
     }
 
     /**
@@ -140,16 +206,38 @@ public class UniqueContactList implements Iterable<Contact> {
     }
 
     /**
-     * Returns true if {@code contacts} contains only unique contacts.
+     * Returns the position at which {@code contact} should be inserted to keep the list sorted.
      */
-    private boolean contactsAreUnique(List<Contact> contacts) {
-        for (int i = 0; i < contacts.size() - 1; i++) {
-            for (int j = i + 1; j < contacts.size(); j++) {
-                if (contacts.get(i).isSameContact(contacts.get(j))) {
-                    return false;
-                }
+    private int insertionPoint(Contact contact) {
+        int index = Collections.binarySearch(internalList, contact);
+        return index < 0 ? -(index + 1) : index;
+    }
+
+    /**
+     * Returns true if {@code contact} can replace the element at {@code index} without breaking the sorted order.
+     */
+    private boolean fitsAt(int index, Contact contact) {
+        boolean afterPrevious = index == 0 || internalList.get(index - 1).compareTo(contact) < 0;
+        boolean beforeNext = index == internalList.size() - 1 || internalList.get(index + 1).compareTo(contact) > 0;
+        return afterPrevious && beforeNext;
+    }
+
+    /**
+     * Returns a description of every group of contacts in {@code contacts} that share the same identity,
+     * in order of first appearance. The returned list is empty if all contacts are unique.
+     */
+    private static List<String> findDuplicateGroups(List<Contact> contacts) {
+        Map<Name, Integer> occurrences = new LinkedHashMap<>();
+        for (Contact contact : contacts) {
+            occurrences.merge(contact.getName(), 1, Integer::sum);
+        }
+
+        List<String> duplicateGroups = new ArrayList<>();
+        for (Map.Entry<Name, Integer> entry : occurrences.entrySet()) {
+            if (entry.getValue() > 1) {
+                duplicateGroups.add(entry.getKey() + " (x" + entry.getValue() + ")");
             }
         }
-        return true;
+        return duplicateGroups;
     }
 }
@@ -1,11 +1,35 @@
 package seedu.address.model.contact.exceptions;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Signals that the operation will result in duplicate Contacts (Contacts are considered duplicates if
  * they have the same identity).
  */
 public class DuplicateContactException extends RuntimeException {
+    private final List<String> duplicateGroups;
+
+    /**
+     * Constructs a {@code DuplicateContactException} that does not identify the clashing entries.
+     */
     public DuplicateContactException() {
         super("Operation would result in duplicate contacts");
+        duplicateGroups = Collections.emptyList();
+    }
+
+    /**
+     * Constructs a {@code DuplicateContactException} that reports every group of clashing contacts.
+     *
+     * @param duplicateGroups one description per group of contacts sharing the same identity.
+     */
+    public DuplicateContactException(List<String> duplicateGroups) {
+        super("Operation would result in duplicate contacts: " + String.join(", ", duplicateGroups));
+        this.duplicateGroups = Collections.unmodifiableList(new ArrayList<>(duplicateGroups));
+    }
+
+    public List<String> getDuplicateGroups() {
+        return duplicateGroups;
     }
 }
@@ -12,6 +12,7 @@ public class Description {
             "Descriptions can be any character including empty string and newline";
 
     public final String fullDescription;
+    private final String lowerCaseValue;
 
     /**
      * Constructs a {@code Description}.
@@ -21,6 +22,14 @@ public class Description {
     public Description(String description) {
         requireNonNull(description);
         fullDescription = description;
+        lowerCaseValue = description.toLowerCase();
+    }
+
+    /**
+     * Returns the description in lower case, which is worked out once for case-insensitive searches.
+     */
+    public String toLowerCase() {
+        return lowerCaseValue;
     }
 
     public String toString() {
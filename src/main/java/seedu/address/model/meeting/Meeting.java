@@ -10,13 +10,18 @@ import java.util.Objects;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.contact.Contact;
 import seedu.address.model.note.Note;
+import seedu.address.model.search.KeywordMatcher;
+import seedu.address.model.util.IdGenerator;
 
 /**
  * Represents a Meeting in NoteNote.
  * Guarantees: details are present and not null, field values are validated.
+ * Every meeting has an ID that is kept by its edited versions.
  */
 public class Meeting implements Comparable<Meeting> {
 
+    private final long id;
+
     private Title title;
 
     private Time time;
@@ -28,11 +33,23 @@ public class Meeting implements Comparable<Meeting> {
     private ArrayList<Contact> contacts = new ArrayList<>();
 
     /**
+     * Creates a new meeting with a new ID.
      * Every field must be present and not null.
      */
     public Meeting(Title title, Time time, Place place, Description description,
                    List<Note> notes, ArrayList<Contact> contacts) {
+        this(IdGenerator.nextId(), title, time, place, description, notes, contacts);
+    }
+
+    /**
+     * Creates a meeting with the given {@code id}, such as an edited version of an existing meeting.
+     * Every field must be present and not null.
+     */
+    public Meeting(long id, Title title, Time time, Place place, Description description,
+                   List<Note> notes, ArrayList<Contact> contacts) {
         requireAllNonNull(title, time, place, description, notes, contacts);
+        IdGenerator.reserve(id);
+        this.id = id;
         this.title = title;
         this.time = time;
         this.place = place;
@@ -41,6 +58,10 @@ public class Meeting implements Comparable<Meeting> {
         this.contacts.addAll(contacts);
     }
 
+    public long getId() {
+        return id;
+    }
+
     public Title getTitle() {
         return title;
     }
@@ -69,6 +90,13 @@ public class Meeting implements Comparable<Meeting> {
         return new ArrayList<>(Collections.unmodifiableList(contacts));
     }
 
+    /**
+     * Returns true if any note of this meeting contains a keyword of {@code matcher}.
+     */
+    public boolean hasNoteMatching(KeywordMatcher matcher) {
+        return matcher.matchesAny(notes);
+    }
+
     /**
      * Returns the list of notes that belongs to this contact to be displayed
      *
@@ -96,23 +124,29 @@ public class Meeting implements Comparable<Meeting> {
      * @return Meeting object with new notes list, while all other attributes remain the same
      */
     public static Meeting editMeetingNotes(Meeting meetingToEdit, List<Note> updatedNotesList) {
-        return new Meeting(
+        return new Meeting(meetingToEdit.getId(),
             meetingToEdit.getTitle(), meetingToEdit.getTime(), meetingToEdit.getPlace(),
             meetingToEdit.getDescription(), updatedNotesList, meetingToEdit.getContacts());
     }
 
     /**
-     * Removes the contact from this meeting
+     * Returns a new Meeting object with an updated list of contacts
      *
-     * @param contact Contact to be removed
+     * @param meetingToEdit the existing Meeting object
+     * @param updatedContacts new list of contacts
+     * @return Meeting object with new contacts list, while all other attributes remain the same
+     */
+    public static Meeting editMeetingContacts(Meeting meetingToEdit, List<Contact> updatedContacts) {
+        return new Meeting(meetingToEdit.getId(),
+            meetingToEdit.getTitle(), meetingToEdit.getTime(), meetingToEdit.getPlace(),
+            meetingToEdit.getDescription(), meetingToEdit.getNotes(), new ArrayList<>(updatedContacts));
+    }
+
+    /**
+     * Returns true if this meeting has a contact with the same ID as {@code contact}.
      */
-    public void remove(Contact contact) {
-        /* for (Contact ctt : contacts) {
-            if (ctt.isSameContact(contact)) {
-                this.contacts.remove(ctt);
-            }
-        }*/
-        this.contacts.remove(contact);
+    public boolean hasContact(Contact contact) {
+        return contacts.stream().anyMatch(ctt -> ctt.getId() == contact.getId());
     }
 
     @Override
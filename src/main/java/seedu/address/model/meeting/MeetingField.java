@@ -0,0 +1,26 @@
+package seedu.address.model.meeting;
+
+import java.util.function.Function;
+
+import seedu.address.model.search.SearchField;
+
+/**
+ * The text fields of a {@code Meeting} that can be searched.
+ */
+public enum MeetingField implements SearchField<Meeting> {
+    TITLE(meeting -> meeting.getTitle().fullTitle),
+    PLACE(meeting -> meeting.getPlace().fullPlace),
+    DESCRIPTION(meeting -> meeting.getDescription().fullDescription),
+    NOTES(Meeting::getNoteString);
+
+    private final Function<Meeting, String> getter;
+
+    MeetingField(Function<Meeting, String> getter) {
+        this.getter = getter;
+    }
+
+    @Override
+    public String valueOf(Meeting meeting) {
+        return getter.apply(meeting);
+    }
+}
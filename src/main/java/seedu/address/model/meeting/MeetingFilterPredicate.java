@@ -1,28 +1,37 @@
 package seedu.address.model.meeting;
 
-import java.time.LocalDateTime;
+import java.util.EnumMap;
 import java.util.List;
-import java.util.function.Predicate;
-import java.util.function.Supplier;
+import java.util.Map;
+
+import seedu.address.model.search.FieldFilter;
+import seedu.address.model.search.KeywordMatcher;
 
 /**
  * Tests that a {@code Meeting}'s {@code all values} matches any of the keywords given.
+ * Its time must also lie between the start and end times given, both inclusive, which are keyed by
+ * {@link Time#toEpochMinute()}.
  */
-public class MeetingFilterPredicate implements Predicate<Meeting> {
-    private final List<String> titleKeywords;
-    private final List<String> time;
-    private final List<String> placeKeywords;
-    private final List<String> descriptionKeywords;
-    private final List<String> noteListKeywords;
+public class MeetingFilterPredicate implements FieldFilter<Meeting, MeetingField> {
+    private final KeywordMatcher titleKeywords;
+    private final long minTime;
+    private final long maxTime;
+    private final KeywordMatcher placeKeywords;
+    private final KeywordMatcher descriptionKeywords;
+    private final KeywordMatcher noteListKeywords;
 
     /**
      * Constructor for the MeetinFilterPredicate class
+     *
+     * @param timeStart the earliest time of a matching meeting, or null if there is none.
+     * @param timeEnd the latest time of a matching meeting, or null if there is none.
      */
-    public MeetingFilterPredicate(List<String> titleKeywords, List<String> time,
-                                  List<String> placeKeywords, List<String> descriptionKeywords,
-                                  List<String> noteKeywords) {
+    public MeetingFilterPredicate(KeywordMatcher titleKeywords, Time timeStart, Time timeEnd,
+                                  KeywordMatcher placeKeywords, KeywordMatcher descriptionKeywords,
+                                  KeywordMatcher noteKeywords) {
         this.titleKeywords = titleKeywords;
-        this.time = time;
+        this.minTime = timeStart == null ? Long.MIN_VALUE : timeStart.toEpochMinute();
+        this.maxTime = timeEnd == null ? Long.MAX_VALUE : timeEnd.toEpochMinute();
         this.placeKeywords = placeKeywords;
         this.descriptionKeywords = descriptionKeywords;
         this.noteListKeywords = noteKeywords;
@@ -30,47 +39,40 @@ public class MeetingFilterPredicate implements Predicate<Meeting> {
 
 
     @Override
-    public boolean test(Meeting meeting) {
-        boolean title = (titleKeywords.size() == 1 && titleKeywords.get(0)
-            .isEmpty()) || titleKeywords.stream().anyMatch(keyword -> meeting.getTitle()
-            .fullTitle.toLowerCase().contains(keyword.toLowerCase()));
-        // writing of stream assisted by chatGPT
-        boolean chrono = false;
-        Time meetingTime = meeting.getTime();
-        Supplier<Boolean> case2 = () -> LocalDateTime.parse(time.get(0), Time.FORMATTER)
-            .isBefore(meetingTime.getValue()) || LocalDateTime.parse(time.get(0), Time.FORMATTER)
-            .isEqual(meetingTime.getValue());
-        Supplier<Boolean> case3 = () -> LocalDateTime.parse(time.get(1), Time.FORMATTER).isAfter(meetingTime.getValue())
-            || LocalDateTime.parse(time.get(1), Time.FORMATTER).isEqual(meetingTime.getValue());
-        Supplier<Boolean> case4 = () -> {
-            LocalDateTime startTime = LocalDateTime.parse(time.get(0), Time.FORMATTER);
-            LocalDateTime endTime = LocalDateTime.parse(time.get(1), Time.FORMATTER);
-            return startTime.isBefore(meetingTime.getValue())
-                && endTime.isAfter(meetingTime.getValue()) || startTime.isEqual(meetingTime.getValue())
-                || endTime.isEqual(meetingTime.getValue());
-        };
-        // use of supplier suggested by chatGPT. In initial code the logic is nested in if-else statements
-        String timeStart = time.get(0);
-        String timeEnd = time.get(1);
-        if (timeStart.equals("") && timeEnd.equals("")) {
-            chrono = true;
-        } else if (!timeStart.equals("") && timeEnd.equals("")) {
-            chrono = case2.get();
-        } else if (timeStart.equals("") && !timeEnd.equals("")) {
-            chrono = case3.get();
-        } else if (!timeStart.equals("") && !timeEnd.equals("")) {
-            chrono = case4.get();
+    public Map<MeetingField, List<String>> getFieldKeywords() {
+        Map<MeetingField, List<String>> fieldKeywords = new EnumMap<>(MeetingField.class);
+        putIfConstrained(fieldKeywords, MeetingField.TITLE, titleKeywords);
+        putIfConstrained(fieldKeywords, MeetingField.PLACE, placeKeywords);
+        putIfConstrained(fieldKeywords, MeetingField.DESCRIPTION, descriptionKeywords);
+        putIfConstrained(fieldKeywords, MeetingField.NOTES, noteListKeywords);
+        return fieldKeywords;
+    }
+
+    private static void putIfConstrained(Map<MeetingField, List<String>> fieldKeywords, MeetingField field,
+                                         KeywordMatcher keywords) {
+        if (!keywords.isUnconstrained()) {
+            fieldKeywords.put(field, keywords.getKeywords());
         }
+    }
 
-        boolean place = (placeKeywords.size() == 1 && placeKeywords.get(0).isEmpty()) || placeKeywords.stream()
-            .anyMatch(keyword -> meeting.getPlace().fullPlace.toLowerCase().contains(keyword.toLowerCase()));
-        boolean description = (descriptionKeywords.size() == 1 && descriptionKeywords.get(0)
-            .isEmpty()) || descriptionKeywords.stream().anyMatch(keyword -> meeting.getDescription()
-            .fullDescription.toLowerCase().contains(keyword.toLowerCase()));
-        boolean note = (noteListKeywords.size() == 1 && noteListKeywords.get(0).isEmpty())
-            || noteListKeywords.stream().anyMatch(keyword -> meeting.getNoteString()
-            .toLowerCase().contains(keyword.toLowerCase()));
-        return title && chrono && place && description && note;
+    @Override
+    public long getMinKey() {
+        return minTime;
+    }
+
+    @Override
+    public long getMaxKey() {
+        return maxTime;
+    }
+
+    @Override
+    public boolean test(Meeting meeting) {
+        long meetingTime = meeting.getTime().toEpochMinute();
+        return minTime <= meetingTime && meetingTime <= maxTime
+            && titleKeywords.matches(meeting.getTitle().toLowerCase())
+            && placeKeywords.matches(meeting.getPlace().toLowerCase())
+            && descriptionKeywords.matches(meeting.getDescription().toLowerCase())
+            && meeting.hasNoteMatching(noteListKeywords);
     }
 
     @Override
@@ -86,7 +88,8 @@ public class MeetingFilterPredicate implements Predicate<Meeting> {
 
         MeetingFilterPredicate otherMeetingFilterPredicate = (MeetingFilterPredicate) other;
         return titleKeywords.equals(otherMeetingFilterPredicate.titleKeywords)
-            && time.equals(otherMeetingFilterPredicate.time)
+            && minTime == otherMeetingFilterPredicate.minTime
+            && maxTime == otherMeetingFilterPredicate.maxTime
             && placeKeywords.equals(otherMeetingFilterPredicate.placeKeywords)
             && descriptionKeywords.equals(otherMeetingFilterPredicate.descriptionKeywords)
             && noteListKeywords.equals(otherMeetingFilterPredicate.noteListKeywords);
@@ -15,6 +15,7 @@ public class Place {
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
     public final String fullPlace;
+    private final String lowerCaseValue;
 
     /**
      * Constructs a {@code Place}.
@@ -25,6 +26,7 @@ public class Place {
         requireNonNull(place);
         checkArgument(isValidPlace(place), MESSAGE_CONSTRAINTS);
         fullPlace = place;
+        lowerCaseValue = place.toLowerCase();
     }
 
     /**
@@ -34,6 +36,13 @@ public class Place {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the place in lower case, which is worked out once for case-insensitive searches.
+     */
+    public String toLowerCase() {
+        return lowerCaseValue;
+    }
+
     @Override
     public String toString() {
         return fullPlace;
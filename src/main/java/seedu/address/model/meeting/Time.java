@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.time.format.ResolverStyle;
@@ -74,6 +75,13 @@ public class Time {
         return value;
     }
 
+    /**
+     * Returns the number of minutes from the epoch to this time, which orders times the same way they occur.
+     */
+    public long toEpochMinute() {
+        return Math.floorDiv(value.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
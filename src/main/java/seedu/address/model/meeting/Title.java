@@ -15,6 +15,7 @@ public class Title {
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
     public final String fullTitle;
+    private final String lowerCaseValue;
 
     /**
      * Constructs a {@code Title}.
@@ -25,6 +26,7 @@ public class Title {
         requireNonNull(title);
         checkArgument(isValidTitle(title), MESSAGE_CONSTRAINTS);
         fullTitle = title;
+        lowerCaseValue = title.toLowerCase();
     }
 
     /**
@@ -34,6 +36,13 @@ public class Title {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the title in lower case, which is worked out once for case-insensitive searches.
+     */
+    public String toLowerCase() {
+        return lowerCaseValue;
+    }
+
     @Override
     public String toString() {
         return fullTitle;
@@ -3,19 +3,28 @@ package seedu.address.model.meeting;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import seedu.address.model.contact.Contact;
 import seedu.address.model.meeting.exceptions.DuplicateMeetingException;
 import seedu.address.model.meeting.exceptions.MeetingNotFoundException;
 
 
 /**
  * A list of meetings that does not allow nulls.
+ * The list is kept in chronological order at all times, with meetings at the same time kept in insertion order,
+ * so positions are found by binary search on the meeting time.
+ * The meeting to replace or remove is found by its ID through an ID-keyed index, so an outdated copy of a meeting
+ * still finds its current version. A meeting that is not in the list under its ID is matched using
+ * Meeting#equals(Object) instead.
  * Supports a minimal set of list operations.
  */
 public class UniqueMeetingList implements Iterable<Meeting> {
@@ -24,15 +33,20 @@ public class UniqueMeetingList implements Iterable<Meeting> {
     private final ObservableList<Meeting> internalUnmodifiableList =
         FXCollections.unmodifiableObservableList(internalList);
 
+    private final Map<Long, Meeting> meetingsById = new HashMap<>();
+    private final Map<Title, Integer> titleCounts = new HashMap<>();
+
     /**
-     * Adds a meeting to the list.
+     * Adds a meeting to the list at its chronological position.
      */
     public void add(Meeting toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (contains(toAdd) || meetingsById.containsKey(toAdd.getId())) {
             throw new DuplicateMeetingException();
         }
-        internalList.add(toAdd);
+        meetingsById.put(toAdd.getId(), toAdd);
+        countTitle(toAdd.getTitle(), 1);
+        internalList.add(upperBound(toAdd), toAdd);
     }
 
     /**
@@ -41,9 +55,11 @@ public class UniqueMeetingList implements Iterable<Meeting> {
      */
     public void remove(Meeting toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
-            throw new MeetingNotFoundException();
-        }
+        int index = indexOfCurrent(toRemove);
+        Meeting current = internalList.get(index);
+        meetingsById.remove(current.getId());
+        countTitle(current.getTitle(), -1);
+        internalList.remove(index);
     }
 
     /**
@@ -51,7 +67,7 @@ public class UniqueMeetingList implements Iterable<Meeting> {
      */
     public boolean contains(Meeting toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return indexOf(toCheck) != -1;
     }
 
     /**
@@ -59,7 +75,7 @@ public class UniqueMeetingList implements Iterable<Meeting> {
      */
     public boolean checkDuplicate(Meeting toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameMeeting);
+        return titleCounts.containsKey(toCheck.getTitle());
     }
 
     @Override
@@ -82,47 +98,69 @@ public class UniqueMeetingList implements Iterable<Meeting> {
     public void setMeeting(Meeting target, Meeting editedMeeting) {
         requireAllNonNull(target, editedMeeting);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
-            throw new MeetingNotFoundException();
+        int index = indexOfCurrent(target);
+        Meeting current = internalList.get(index);
+        if (!current.equals(editedMeeting) && contains(editedMeeting)) {
+            throw new DuplicateMeetingException();
         }
-
-        if (!target.equals(editedMeeting) && contains(editedMeeting)) {
+        if (current.getId() != editedMeeting.getId() && meetingsById.containsKey(editedMeeting.getId())) {
             throw new DuplicateMeetingException();
         }
 
-        internalList.set(index, editedMeeting);
+        meetingsById.remove(current.getId());
+        meetingsById.put(editedMeeting.getId(), editedMeeting);
+        countTitle(current.getTitle(), -1);
+        countTitle(editedMeeting.getTitle(), 1);
+        if (fitsAt(index, editedMeeting)) {
+            internalList.set(index, editedMeeting);
+        } else {
+            internalList.remove(index);
+            internalList.add(upperBound(editedMeeting), editedMeeting);
+        }
     }
 
     /**
-     * Replaces the contents of this list with {@code meetings}.
+     * Replaces the contents of this list with {@code meetings}, in chronological order.
      * {@code meetings} must not contain duplicate meetings.
      */
     public void setMeetings(List<Meeting> meetings) {
         requireAllNonNull(meetings);
-        if (!meetingsAreUnique(meetings)) {
-            throw new DuplicateMeetingException();
+        List<String> duplicateGroups = findDuplicateGroups(meetings);
+        if (!duplicateGroups.isEmpty()) {
+            throw new DuplicateMeetingException(duplicateGroups);
         }
 
-        internalList.setAll(meetings);
-    }
+        Map<Long, Meeting> newMeetingsById = new HashMap<>();
+        for (Meeting meeting : meetings) {
+            if (newMeetingsById.put(meeting.getId(), meeting) != null) {
+                throw new DuplicateMeetingException();
+            }
+        }
 
-    public void sort() {
-        Collections.sort(internalList);
+        List<Meeting> sortedMeetings = new ArrayList<>(meetings);
+        Collections.sort(sortedMeetings);
+        meetingsById.clear();
+        meetingsById.putAll(newMeetingsById);
+        titleCounts.clear();
+        sortedMeetings.forEach(meeting -> countTitle(meeting.getTitle(), 1));
+        internalList.setAll(sortedMeetings);
     }
 
     /**
-     * Removes the contact from the specified meeting
+     * Returns the meeting in the list with the same ID as {@code meeting}, or failing that, one equal to it.
      *
-     * @param meeting Meeting that contains the contact
-     * @param contact contact to be removed from the meeting
+     * @throws MeetingNotFoundException if there is no such meeting.
      */
-    public void update(Meeting meeting, Contact contact) {
-        for (Meeting mtg : internalList) {
-            if (mtg.isSameMeeting(meeting)) {
-                mtg.remove(contact);
-            }
-        }
+    public Meeting find(Meeting meeting) {
+        requireNonNull(meeting);
+        return internalList.get(indexOfCurrent(meeting));
+    }
+
+    /**
+     * Returns the meeting in the list with the given {@code id}, if any.
+     */
+    public Optional<Meeting> getById(long id) {
+        return Optional.ofNullable(meetingsById.get(id));
     }
 
 
@@ -152,17 +190,113 @@ public class UniqueMeetingList implements Iterable<Meeting> {
     }
 
     /**
-     * Returns true if {@code meetings} contains only unique meetings.
+     * Adds {@code delta} to the number of meetings in the list with {@code title}, which
+     * {@link #checkDuplicate(Meeting)} looks up instead of comparing every meeting.
+     */
+    private void countTitle(Title title, int delta) {
+        titleCounts.merge(title, delta, (count, change) -> count + change == 0 ? null : count + change);
+    }
+
+    /**
+     * Returns the index of the meeting with the same ID as {@code meeting}, or failing that, one equal to it.
+     *
+     * @throws MeetingNotFoundException if there is no such meeting.
+     */
+    private int indexOfCurrent(Meeting meeting) {
+        Meeting current = meetingsById.get(meeting.getId());
+        int index = current == null ? indexOf(meeting) : indexOfSame(current);
+        if (index == -1) {
+            throw new MeetingNotFoundException();
+        }
+        return index;
+    }
+
+    /**
+     * Returns the index of {@code meeting} itself in the list.
      */
-    private boolean meetingsAreUnique(List<Meeting> meetings) {
-        for (int i = 0; i < meetings.size() - 1; i++) {
-            for (int j = i + 1; j < meetings.size(); j++) {
-                if (meetings.get(i).equals(meetings.get(j))) {
-                    return false;
-                }
+    private int indexOfSame(Meeting meeting) {
+        for (int i = lowerBound(meeting); i < internalList.size(); i++) {
+            if (internalList.get(i) == meeting) {
+                return i;
+            }
+        }
+        throw new AssertionError("The ID index must only hold meetings in the list");
+    }
+
+    /**
+     * Returns the index of the meeting equal to {@code meeting}, or -1 if there is none.
+     * Only meetings at the same time as {@code meeting} are compared.
+     */
+    private int indexOf(Meeting meeting) {
+        for (int i = lowerBound(meeting); i < internalList.size() && internalList.get(i).compareTo(meeting) == 0; i++) {
+            if (internalList.get(i).equals(meeting)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first meeting that is not earlier than {@code meeting}.
+     */
+    private int lowerBound(Meeting meeting) {
+        int low = 0;
+        int high = internalList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (internalList.get(mid).compareTo(meeting) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first meeting that is later than {@code meeting}.
+     * Inserting there keeps meetings at the same time in insertion order.
+     */
+    private int upperBound(Meeting meeting) {
+        int low = 0;
+        int high = internalList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (internalList.get(mid).compareTo(meeting) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns true if {@code meeting} can replace the element at {@code index} without breaking the order.
+     */
+    private boolean fitsAt(int index, Meeting meeting) {
+        boolean afterPrevious = index == 0 || internalList.get(index - 1).compareTo(meeting) <= 0;
+        boolean beforeNext = index == internalList.size() - 1 || internalList.get(index + 1).compareTo(meeting) >= 0;
+        return afterPrevious && beforeNext;
+    }
+
+    /**
+     * Returns a description of every group of identical meetings in {@code meetings},
+     * in order of first appearance. The returned list is empty if all meetings are unique.
+     */
+    private static List<String> findDuplicateGroups(List<Meeting> meetings) {
+        Map<Meeting, Integer> occurrences = new LinkedHashMap<>();
+        for (Meeting meeting : meetings) {
+            occurrences.merge(meeting, 1, Integer::sum);
+        }
+
+        List<String> duplicateGroups = new ArrayList<>();
+        for (Map.Entry<Meeting, Integer> entry : occurrences.entrySet()) {
+            if (entry.getValue() > 1) {
+                duplicateGroups.add(entry.getKey().getTitle() + " (x" + entry.getValue() + ")");
             }
         }
-        return true;
+        return duplicateGroups;
     }
 
 }
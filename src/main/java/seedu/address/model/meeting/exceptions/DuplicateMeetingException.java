@@ -1,11 +1,35 @@
 package seedu.address.model.meeting.exceptions;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Signals that the operation will result in duplicate Meetings (Meetings are considered duplicates
  * if they have the same id).
  */
 public class DuplicateMeetingException extends RuntimeException {
+    private final List<String> duplicateGroups;
+
+    /**
+     * Constructs a {@code DuplicateMeetingException} that does not identify the clashing entries.
+     */
     public DuplicateMeetingException() {
         super("Operation would result in duplicate meetings");
+        duplicateGroups = Collections.emptyList();
+    }
+
+    /**
+     * Constructs a {@code DuplicateMeetingException} that reports every group of clashing meetings.
+     *
+     * @param duplicateGroups one description per group of identical meetings.
+     */
+    public DuplicateMeetingException(List<String> duplicateGroups) {
+        super("Operation would result in duplicate meetings: " + String.join(", ", duplicateGroups));
+        this.duplicateGroups = Collections.unmodifiableList(new ArrayList<>(duplicateGroups));
+    }
+
+    public List<String> getDuplicateGroups() {
+        return duplicateGroups;
     }
 }
@@ -8,6 +8,7 @@ import static java.util.Objects.requireNonNull;
  */
 public class Note {
     public final String note;
+    private final String lowerCaseValue;
 
     /**
      * Constructs a {@code Note}.
@@ -17,6 +18,14 @@ public class Note {
     public Note(String note) {
         requireNonNull(note);
         this.note = note;
+        lowerCaseValue = note.toLowerCase();
+    }
+
+    /**
+     * Returns the note in lower case, which is worked out once for case-insensitive searches.
+     */
+    public String toLowerCase() {
+        return lowerCaseValue;
     }
 
     @Override
@@ -0,0 +1,35 @@
+package seedu.address.model.search;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * A predicate that requires an entry's fields to contain keywords, which lets a {@link SearchIndex} narrow down the
+ * entries to test.
+ * An entry can only pass the filter if, for every field in {@link #getFieldKeywords()}, the field contains at least
+ * one of its keywords, ignoring case, and its key lies from {@link #getMinKey()} to {@link #getMaxKey()}.
+ * The filter may check more than that in {@link #test(Object)}.
+ */
+public interface FieldFilter<T, F extends Enum<F> & SearchField<T>> extends Predicate<T> {
+
+    /**
+     * Returns the keywords each constrained field must contain one of. Unconstrained fields are left out.
+     */
+    Map<F, List<String>> getFieldKeywords();
+
+    /**
+     * Returns the smallest key, as given to a {@link SearchIndex} that indexes keys, an entry can have to pass.
+     */
+    default long getMinKey() {
+        return Long.MIN_VALUE;
+    }
+
+    /**
+     * Returns the largest key, as given to a {@link SearchIndex} that indexes keys, an entry can have to pass.
+     */
+    default long getMaxKey() {
+        return Long.MAX_VALUE;
+    }
+
+}
@@ -0,0 +1,101 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.model.note.Note;
+
+/**
+ * Matches text that contains any of a list of keywords, ignoring case.
+ * <p>
+ * The keywords are case-folded once, when they are compiled, and are matched against text that is already in lower
+ * case, such as the cached {@code toLowerCase()} of a field, so matching allocates nothing.
+ * An empty keyword is contained in every text, so a matcher with one matches everything.
+ */
+public class KeywordMatcher {
+
+    private final List<String> keywords;
+    private final String[] lowerCaseKeywords;
+    private final boolean isUnconstrained;
+
+    private KeywordMatcher(List<String> keywords) {
+        this.keywords = Collections.unmodifiableList(keywords);
+        this.lowerCaseKeywords = keywords.stream().map(String::toLowerCase).toArray(String[]::new);
+        this.isUnconstrained = keywords.stream().anyMatch(String::isEmpty);
+    }
+
+    /**
+     * Returns a matcher for text that contains any of {@code keywords}.
+     */
+    public static KeywordMatcher compile(List<String> keywords) {
+        requireNonNull(keywords);
+        return new KeywordMatcher(keywords);
+    }
+
+    /**
+     * Returns the keywords as they were given.
+     */
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    /**
+     * Returns true if this matcher matches every text.
+     */
+    public boolean isUnconstrained() {
+        return isUnconstrained;
+    }
+
+    /**
+     * Returns true if {@code lowerCaseText}, which must be in lower case, contains any of the keywords.
+     */
+    public boolean matches(String lowerCaseText) {
+        if (isUnconstrained) {
+            return true;
+        }
+        for (String keyword : lowerCaseKeywords) {
+            if (lowerCaseText.contains(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if any of {@code notes} contains any of the keywords, or if this matcher matches everything.
+     */
+    public boolean matchesAny(List<Note> notes) {
+        if (isUnconstrained) {
+            return true;
+        }
+        for (int i = 0; i < notes.size(); i++) {
+            if (matches(notes.get(i).toLowerCase())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof KeywordMatcher)) {
+            return false;
+        }
+
+        KeywordMatcher otherMatcher = (KeywordMatcher) other;
+        return keywords.equals(otherMatcher.keywords);
+    }
+
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
+}
@@ -0,0 +1,56 @@
+package seedu.address.model.search;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * An index from an ordered key, such as a time, to the IDs of the entries with that key.
+ * <p>
+ * The keys are kept sorted, so the IDs in a range of keys are found by locating both ends of the range, without
+ * looking at the keys outside it.
+ */
+public class RangeIndex {
+
+    private final NavigableMap<Long, Set<Long>> idsByKey = new TreeMap<>();
+
+    /**
+     * Indexes {@code id} under {@code key}.
+     */
+    public void add(long id, long key) {
+        idsByKey.computeIfAbsent(key, unused -> new HashSet<>()).add(id);
+    }
+
+    /**
+     * Removes {@code id}, which must have been indexed under {@code key}, from the index.
+     */
+    public void remove(long id, long key) {
+        Set<Long> ids = idsByKey.get(key);
+        if (ids == null) {
+            return;
+        }
+        ids.remove(id);
+        if (ids.isEmpty()) {
+            idsByKey.remove(key);
+        }
+    }
+
+    public void clear() {
+        idsByKey.clear();
+    }
+
+    /**
+     * Returns the IDs indexed under a key from {@code fromKey} to {@code toKey}, both inclusive.
+     */
+    public Set<Long> candidates(long fromKey, long toKey) {
+        if (fromKey > toKey) {
+            return Collections.emptySet();
+        }
+        Set<Long> candidates = new HashSet<>();
+        idsByKey.subMap(fromKey, true, toKey, true).values().forEach(candidates::addAll);
+        return candidates;
+    }
+
+}
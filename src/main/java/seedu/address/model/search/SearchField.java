@@ -0,0 +1,13 @@
+package seedu.address.model.search;
+
+/**
+ * A text field of an entry of type {@code T} that can be searched through a {@link SearchIndex}.
+ */
+public interface SearchField<T> {
+
+    /**
+     * Returns the text of this field in {@code entry}.
+     */
+    String valueOf(T entry);
+
+}
@@ -0,0 +1,350 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * A full-text index over the fields {@code F} of a collection of entries of type {@code T}, which turns a
+ * {@link FieldFilter} into a predicate that only tests the entries that may pass it.
+ * <p>
+ * The index is built from the entries the first time it is searched, and from then on must be told about every
+ * change to them, before the change is made visible to anything that may search it. Until it is first searched,
+ * changes cost nothing, so copies of the data that are never searched do not pay for an index.
+ * <p>
+ * An index may also be given an ordered key of each entry, such as a time, to find the entries whose key lies
+ * between {@link FieldFilter#getMinKey()} and {@link FieldFilter#getMaxKey()} without a full scan.
+ * <p>
+ * For large lists, {@link #precompute(Predicate)} tests every entry in parallel up front, so that a list filtered
+ * through the result is refiltered with bitmap lookups.
+ * <p>
+ * {@link #rank(String, Predicate, int)} finds the entries whose fields are most similar to a query, tolerating typos.
+ */
+public class SearchIndex<T, F extends Enum<F> & SearchField<T>> {
+
+    /** The number of entries from which {@link #precompute(Predicate)} tests them in parallel. */
+    public static final int PARALLEL_THRESHOLD = 20_000;
+
+    private final Class<F> fieldType;
+    private final ToLongFunction<T> idOf;
+    private final ToLongFunction<T> keyOf;
+    private final List<T> entries;
+    private final Map<F, TrigramIndex> indexes;
+    private final Map<F, SimilarityIndex> similarityIndexes;
+    private final RangeIndex keyIndex = new RangeIndex();
+
+    private boolean isBuilt;
+    private long version;
+
+    /**
+     * Creates an index over the fields {@code fieldType} of {@code entries}, each identified by {@code idOf}.
+     *
+     * @param entries the entries to index when the index is first searched.
+     */
+    public SearchIndex(Class<F> fieldType, ToLongFunction<T> idOf, List<T> entries) {
+        this(fieldType, idOf, null, entries);
+    }
+
+    /**
+     * Creates an index over the fields {@code fieldType} and the key {@code keyOf} of {@code entries}, each
+     * identified by {@code idOf}.
+     *
+     * @param keyOf the key of an entry, or null if the entries are not indexed by key.
+     * @param entries the entries to index when the index is first searched.
+     */
+    public SearchIndex(Class<F> fieldType, ToLongFunction<T> idOf, ToLongFunction<T> keyOf, List<T> entries) {
+        this.fieldType = fieldType;
+        this.idOf = idOf;
+        this.keyOf = keyOf;
+        this.entries = entries;
+        this.indexes = new EnumMap<>(fieldType);
+        this.similarityIndexes = new EnumMap<>(fieldType);
+    }
+
+    /**
+     * Indexes {@code entry}, which is about to be added.
+     */
+    public void add(T entry) {
+        version++;
+        if (isBuilt) {
+            index(entry);
+        }
+    }
+
+    /**
+     * Removes {@code entry}, which is about to be removed, from the index.
+     */
+    public void remove(T entry) {
+        version++;
+        if (isBuilt) {
+            long id = idOf.applyAsLong(entry);
+            indexes.forEach((field, index) -> index.remove(id, field.valueOf(entry)));
+            similarityIndexes.forEach((field, index) -> index.remove(id, field.valueOf(entry)));
+            if (keyOf != null) {
+                keyIndex.remove(id, keyOf.applyAsLong(entry));
+            }
+        }
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedEntry}, which is about to replace it, in the index.
+     */
+    public void set(T target, T editedEntry) {
+        remove(target);
+        add(editedEntry);
+    }
+
+    /**
+     * Discards the index, because all entries are about to be replaced. It is rebuilt when next searched.
+     */
+    public void reset() {
+        version++;
+        isBuilt = false;
+        indexes.clear();
+        similarityIndexes.clear();
+        keyIndex.clear();
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code filter}, which rejects entries that cannot pass it by looking them up
+     * in this index. The predicate keeps using this index as the entries change, so it stays equivalent.
+     */
+    public Predicate<T> filter(FieldFilter<T, F> filter) {
+        requireNonNull(filter);
+        return new IndexedFilter(filter);
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate}, which answers for the current entries from the matches
+     * found by testing them all up front, in parallel on the common {@code ForkJoinPool}. Entries added or changed
+     * afterwards are tested with {@code predicate} itself. Fewer than {@link #PARALLEL_THRESHOLD} entries are not
+     * worth splitting up, so {@code predicate} is returned as is.
+     * {@code predicate} must be safe to test from several threads at once.
+     * <p>
+     * This blocks the calling thread until every entry has been tested. Filtering in the background instead would
+     * leave the list showing stale results after the command that filtered it, which reports how many entries are
+     * listed, has finished, so the parallel pass only shortens the wait.
+     */
+    public Predicate<T> precompute(Predicate<T> predicate) {
+        return precompute(predicate, PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Returns the result of {@link #precompute(Predicate)}, testing the entries in parallel from {@code threshold}
+     * entries.
+     */
+    Predicate<T> precompute(Predicate<T> predicate, int threshold) {
+        requireNonNull(predicate);
+        if (entries.size() < threshold) {
+            return predicate;
+        }
+        return new PrecomputedFilter(predicate);
+    }
+
+    /**
+     * Returns the entries that pass {@code filter} and are most similar to {@code query}, most similar first, at
+     * most {@code limit} of them. An entry is as similar as its most similar field, as measured by
+     * {@link SimilarityIndex}, and entries that share nothing with the query are left out. Equally similar entries
+     * keep their order in the list.
+     * <p>
+     * Every entry is looked up once in the similarities found for the query, so ranking takes time linear in the
+     * number of entries. Only those that share something with the query are tested against {@code filter}, and only
+     * the best {@code limit} of them are kept while the others are scored, in a heap.
+     */
+    public List<T> rank(String query, Predicate<T> filter, int limit) {
+        requireAllNonNull(query, filter);
+        checkArgument(limit > 0, "The number of entries to rank must be positive");
+        build();
+
+        Map<Long, Double> similarities = new HashMap<>();
+        for (SimilarityIndex index : similarityIndexes.values()) {
+            index.similarities(query).forEach((id, similarity) -> similarities.merge(id, similarity, Math::max));
+        }
+
+        // The heap's head is the worst entry kept so far, which is dropped when a better one comes along
+        PriorityQueue<RankedEntry<T>> best = new PriorityQueue<>(limit + 1, RankedEntry.WORST_FIRST);
+        for (int position = 0; position < entries.size(); position++) {
+            T entry = entries.get(position);
+            Double similarity = similarities.get(idOf.applyAsLong(entry));
+            if (similarity == null || !filter.test(entry)) {
+                continue;
+            }
+            best.offer(new RankedEntry<>(entry, similarity, position));
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+
+        List<RankedEntry<T>> ranked = new ArrayList<>(best);
+        ranked.sort(RankedEntry.WORST_FIRST.reversed());
+        return ranked.stream().map(rankedEntry -> rankedEntry.entry).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the IDs of the entries that may pass {@code filter}, or null if the index cannot narrow them down.
+     */
+    Set<Long> candidates(FieldFilter<T, F> filter) {
+        build();
+
+        List<Set<Long>> fieldCandidates = new ArrayList<>();
+        for (Map.Entry<F, List<String>> fieldKeywords : filter.getFieldKeywords().entrySet()) {
+            Set<Long> candidates = candidates(indexes.get(fieldKeywords.getKey()), fieldKeywords.getValue());
+            if (candidates != null) {
+                fieldCandidates.add(candidates);
+            }
+        }
+        if (keyOf != null && (filter.getMinKey() != Long.MIN_VALUE || filter.getMaxKey() != Long.MAX_VALUE)) {
+            fieldCandidates.add(keyIndex.candidates(filter.getMinKey(), filter.getMaxKey()));
+        }
+        return fieldCandidates.isEmpty() ? null : TrigramIndex.intersect(fieldCandidates);
+    }
+
+    /**
+     * Returns the IDs of the entries whose field in {@code index} may contain any of {@code keywords}, or null if
+     * the index cannot narrow them down.
+     */
+    private static Set<Long> candidates(TrigramIndex index, List<String> keywords) {
+        Set<Long> candidates = new HashSet<>();
+        for (String keyword : keywords) {
+            Set<Long> keywordCandidates = index.candidates(keyword);
+            if (keywordCandidates == null) {
+                return null;
+            }
+            candidates.addAll(keywordCandidates);
+        }
+        return candidates;
+    }
+
+    private void build() {
+        if (isBuilt) {
+            return;
+        }
+        for (F field : fieldType.getEnumConstants()) {
+            indexes.put(field, new TrigramIndex());
+            similarityIndexes.put(field, new SimilarityIndex());
+        }
+        entries.forEach(this::index);
+        isBuilt = true;
+    }
+
+    private void index(T entry) {
+        long id = idOf.applyAsLong(entry);
+        indexes.forEach((field, index) -> index.add(id, field.valueOf(entry)));
+        similarityIndexes.forEach((field, index) -> index.add(id, field.valueOf(entry)));
+        if (keyOf != null) {
+            keyIndex.add(id, keyOf.applyAsLong(entry));
+        }
+    }
+
+    /**
+     * An entry with its similarity to a query and its position in the list.
+     */
+    private static class RankedEntry<T> {
+        static final Comparator<RankedEntry<?>> WORST_FIRST = Comparator
+            .<RankedEntry<?>>comparingDouble(rankedEntry -> rankedEntry.similarity)
+            .thenComparing(Comparator.<RankedEntry<?>>comparingInt(rankedEntry -> rankedEntry.position).reversed());
+
+        private final T entry;
+        private final double similarity;
+        private final int position;
+
+        RankedEntry(T entry, double similarity, int position) {
+            this.entry = entry;
+            this.similarity = similarity;
+            this.position = position;
+        }
+    }
+
+    /**
+     * A predicate that answers from a bitmap of which positions in the list passed it when it was created.
+     * <p>
+     * A list refiltered through it tests the entries in order, so the position of an entry is found by checking
+     * whether it is the one after the entry tested last, or the first one. Any other entry, and any entry once the
+     * list has changed, is tested with the predicate itself.
+     */
+    private class PrecomputedFilter implements Predicate<T> {
+        private final Predicate<T> predicate;
+        private final BitSet matches;
+        private final long matchesVersion;
+        private int nextPosition;
+
+        PrecomputedFilter(Predicate<T> predicate) {
+            this.predicate = predicate;
+            this.matchesVersion = version;
+
+            // Each task fills its own word of the bitmap, so the tasks never write to the same word
+            int size = entries.size();
+            long[] words = new long[(size + Long.SIZE - 1) / Long.SIZE];
+            IntStream.range(0, words.length).parallel().forEach(word -> {
+                long bits = 0;
+                int end = Math.min(size, (word + 1) * Long.SIZE);
+                for (int position = word * Long.SIZE; position < end; position++) {
+                    if (predicate.test(entries.get(position))) {
+                        bits |= 1L << (position - word * Long.SIZE);
+                    }
+                }
+                words[word] = bits;
+            });
+            this.matches = BitSet.valueOf(words);
+        }
+
+        @Override
+        public boolean test(T entry) {
+            if (version != matchesVersion) {
+                return predicate.test(entry);
+            }
+            int position = isAt(nextPosition, entry) ? nextPosition : isAt(0, entry) ? 0 : -1;
+            if (position < 0) {
+                return predicate.test(entry);
+            }
+            nextPosition = position + 1;
+            return matches.get(position);
+        }
+
+        private boolean isAt(int position, T entry) {
+            return position < entries.size() && entries.get(position) == entry;
+        }
+    }
+
+    /**
+     * A {@code FieldFilter} that first checks whether an entry is among the candidates found by the index.
+     * The candidates are looked up when the filter is created, so that it can be tested from several threads until
+     * the entries change, and again whenever the entries have changed since they were last looked up.
+     */
+    private class IndexedFilter implements Predicate<T> {
+        private final FieldFilter<T, F> filter;
+        private Set<Long> candidates;
+        private long candidatesVersion;
+
+        IndexedFilter(FieldFilter<T, F> filter) {
+            this.filter = filter;
+            this.candidates = candidates(filter);
+            this.candidatesVersion = version;
+        }
+
+        @Override
+        public boolean test(T entry) {
+            if (candidatesVersion != version) {
+                candidates = candidates(filter);
+                candidatesVersion = version;
+            }
+            return (candidates == null || candidates.contains(idOf.applyAsLong(entry))) && filter.test(entry);
+        }
+    }
+
+}
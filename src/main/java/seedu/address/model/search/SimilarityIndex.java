@@ -0,0 +1,95 @@
+package seedu.address.model.search;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An index of texts by the trigrams of their words, which finds the texts most similar to a query even if it is
+ * misspelt, such as "Jon Smiht" for "John Smith".
+ * <p>
+ * Each word is padded with two spaces in front and one behind before it is split into trigrams, so that short words
+ * and the start and end of words count. The similarity of two texts is the number of trigrams they share divided by
+ * the number of distinct trigrams in either, from 0 for nothing in common to 1 for the same trigrams.
+ */
+public class SimilarityIndex {
+
+    private final Map<String, Set<Long>> idsByTrigram = new HashMap<>();
+    private final Map<Long, Integer> trigramCountById = new HashMap<>();
+
+    /**
+     * Indexes {@code text} under {@code id}. Only one text can be indexed under each ID.
+     */
+    public void add(long id, String text) {
+        Set<String> trigrams = trigramsOf(text);
+        if (trigrams.isEmpty()) {
+            return;
+        }
+        for (String trigram : trigrams) {
+            idsByTrigram.computeIfAbsent(trigram, unused -> new HashSet<>()).add(id);
+        }
+        trigramCountById.put(id, trigrams.size());
+    }
+
+    /**
+     * Removes {@code text}, which must have been indexed under {@code id}, from the index.
+     */
+    public void remove(long id, String text) {
+        for (String trigram : trigramsOf(text)) {
+            Set<Long> ids = idsByTrigram.get(trigram);
+            if (ids == null) {
+                continue;
+            }
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                idsByTrigram.remove(trigram);
+            }
+        }
+        trigramCountById.remove(id);
+    }
+
+    /**
+     * Removes every text from the index.
+     */
+    public void clear() {
+        idsByTrigram.clear();
+        trigramCountById.clear();
+    }
+
+    /**
+     * Returns the similarity to {@code query} of every indexed text that shares a trigram with it, by ID.
+     */
+    public Map<Long, Double> similarities(String query) {
+        Set<String> queryTrigrams = trigramsOf(query);
+        Map<Long, Integer> sharedCounts = new HashMap<>();
+        for (String trigram : queryTrigrams) {
+            Set<Long> ids = idsByTrigram.getOrDefault(trigram, Set.of());
+            for (Long id : ids) {
+                sharedCounts.merge(id, 1, Integer::sum);
+            }
+        }
+
+        Map<Long, Double> similarities = new HashMap<>();
+        sharedCounts.forEach((id, sharedCount) -> {
+            int unionCount = queryTrigrams.size() + trigramCountById.get(id) - sharedCount;
+            similarities.put(id, (double) sharedCount / unionCount);
+        });
+        return similarities;
+    }
+
+    private static Set<String> trigramsOf(String text) {
+        Set<String> trigrams = new HashSet<>();
+        for (String word : text.toLowerCase().split("\\s+")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            String paddedWord = "  " + word + " ";
+            for (int i = 0; i + TrigramIndex.GRAM_LENGTH <= paddedWord.length(); i++) {
+                trigrams.add(paddedWord.substring(i, i + TrigramIndex.GRAM_LENGTH));
+            }
+        }
+        return trigrams;
+    }
+
+}
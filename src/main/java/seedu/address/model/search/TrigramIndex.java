@@ -0,0 +1,97 @@
+package seedu.address.model.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An inverted index from every three-character substring (trigram) of some texts to the IDs of the texts containing
+ * it, ignoring case.
+ * Any text that contains a keyword also contains every trigram of the keyword, so intersecting the IDs of those
+ * trigrams gives every text that may contain the keyword, without looking at the other texts.
+ */
+public class TrigramIndex {
+
+    public static final int GRAM_LENGTH = 3;
+
+    private final Map<String, Set<Long>> idsByTrigram = new HashMap<>();
+
+    /**
+     * Indexes {@code text} under {@code id}.
+     */
+    public void add(long id, String text) {
+        for (String trigram : trigramsOf(text)) {
+            idsByTrigram.computeIfAbsent(trigram, unused -> new HashSet<>()).add(id);
+        }
+    }
+
+    /**
+     * Removes {@code text}, which must have been indexed under {@code id}, from the index.
+     */
+    public void remove(long id, String text) {
+        for (String trigram : trigramsOf(text)) {
+            Set<Long> ids = idsByTrigram.get(trigram);
+            if (ids == null) {
+                continue;
+            }
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                idsByTrigram.remove(trigram);
+            }
+        }
+    }
+
+    public void clear() {
+        idsByTrigram.clear();
+    }
+
+    /**
+     * Returns the IDs of the texts that may contain {@code keyword}, ignoring case. Every text that contains it is
+     * included, but some of the others may be too.
+     *
+     * @return the IDs, or null if {@code keyword} is too short to narrow down the texts.
+     */
+    public Set<Long> candidates(String keyword) {
+        Set<String> trigrams = trigramsOf(keyword);
+        if (trigrams.isEmpty()) {
+            return null;
+        }
+
+        List<Set<Long>> postings = new ArrayList<>();
+        for (String trigram : trigrams) {
+            Set<Long> ids = idsByTrigram.get(trigram);
+            if (ids == null) {
+                return new HashSet<>();
+            }
+            postings.add(ids);
+        }
+        return intersect(postings);
+    }
+
+    /**
+     * Returns the IDs that are in all of {@code idSets}, which must not be empty.
+     */
+    static Set<Long> intersect(List<Set<Long>> idSets) {
+        List<Set<Long>> sortedSets = new ArrayList<>(idSets);
+        sortedSets.sort(Comparator.comparingInt(Set::size));
+        Set<Long> result = new HashSet<>(sortedSets.get(0));
+        for (int i = 1; i < sortedSets.size() && !result.isEmpty(); i++) {
+            result.retainAll(sortedSets.get(i));
+        }
+        return result;
+    }
+
+    private static Set<String> trigramsOf(String text) {
+        String lowerCaseText = text.toLowerCase();
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= lowerCaseText.length(); i++) {
+            trigrams.add(lowerCaseText.substring(i, i + GRAM_LENGTH));
+        }
+        return trigrams;
+    }
+
+}
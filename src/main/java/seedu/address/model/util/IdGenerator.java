@@ -0,0 +1,38 @@
+package seedu.address.model.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands out the IDs that identify contacts and meetings.
+ * An ID is assigned when a contact or meeting is first created and is kept through edits and saves, so it stays
+ * the same even when the name or title changes.
+ */
+public class IdGenerator {
+
+    private static final AtomicLong lastId = new AtomicLong();
+
+    private IdGenerator() {
+    } // prevents instantiation
+
+    /**
+     * Returns an ID that has not been handed out or reserved before.
+     */
+    public static long nextId() {
+        return lastId.incrementAndGet();
+    }
+
+    /**
+     * Makes sure {@code id}, which was assigned elsewhere (e.g. read from storage), is never handed out again.
+     */
+    public static void reserve(long id) {
+        lastId.accumulateAndGet(id, Math::max);
+    }
+
+    /**
+     * Returns true if {@code id} is a value that could have been handed out.
+     */
+    public static boolean isValidId(long id) {
+        return id > 0;
+    }
+
+}
@@ -26,13 +26,13 @@ public class SampleDataUtil {
     public static Contact[] getSampleContacts() {
         return new Contact[]{
             new Contact(new Name("Alex Yeoh"), new Phone("87438807"), new Email("alexyeoh@example.com"),
-                new ArrayList<>(), new ArrayList<>()),
+                new ArrayList<>()),
             new Contact(new Name("Bernice Yu"), new Phone("99272758"), new Email("berniceyu@example.com"),
-                new ArrayList<>(), new ArrayList<>()),
+                new ArrayList<>()),
             new Contact(new Name("Charlotte Oliveiro"), new Phone("93210283"), new Email("charlotte@example.com"),
-                new ArrayList<>(), new ArrayList<>()),
+                new ArrayList<>()),
             new Contact(new Name("David Li"), new Phone("91031282"), new Email("lidavid@example.com"),
-                new ArrayList<>(), new ArrayList<>())
+                new ArrayList<>())
         };
     }
 
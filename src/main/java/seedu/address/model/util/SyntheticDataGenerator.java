@@ -0,0 +1,172 @@
+package seedu.address.model.util;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.Email;
+import seedu.address.model.contact.Name;
+import seedu.address.model.contact.Phone;
+import seedu.address.model.meeting.Description;
+import seedu.address.model.meeting.Meeting;
+import seedu.address.model.meeting.Place;
+import seedu.address.model.meeting.Time;
+import seedu.address.model.meeting.Title;
+import seedu.address.model.note.Note;
+
+/**
+ * Generates address books of any size, with contacts, meetings, notes and the links between contacts and meetings,
+ * for capacity tests and benchmarks.
+ * <p>
+ * The data is drawn from a {@link Random} with a given seed, so the same seed and sizes always give equal address
+ * books. Names are made from common first and last names, numbered once every combination is taken. Each entry
+ * has from none to twice the mean number of notes. Meetings fall on a working hour within a year, and most have one
+ * or two contacts, drawn more often from the first contacts generated, so some contacts are in far more meetings
+ * than others.
+ */
+public class SyntheticDataGenerator {
+
+    public static final long DEFAULT_SEED = 2103;
+
+    private static final String[] FIRST_NAMES = {
+        "Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Wei Ming", "Siti", "Priya", "Jun Jie", "Hui Min",
+        "Arjun", "Nurul", "Kai", "Mei Ling", "Ethan", "Chloe", "Marcus", "Aisha", "Ryan", "Sarah", "Daniel",
+        "Jasmine", "Hafiz", "Grace", "Lucas", "Divya", "Zhi Hao", "Rachel", "Benjamin"
+    };
+    private static final String[] LAST_NAMES = {
+        "Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Tan", "Lim", "Lee", "Ng", "Ong", "Wong", "Goh",
+        "Chua", "Koh", "Teo", "Chan", "Ho", "Kumar", "Rahman", "Abdullah", "Singh", "Pillai", "Smith", "Fernandez",
+        "Nguyen", "Kim", "Sato", "Chen", "Low"
+    };
+    private static final String[] EMAIL_DOMAINS = {
+        "example.com", "u.nus.edu", "gmail.com", "outlook.com", "company.com.sg"
+    };
+    private static final String[] MEETING_TOPICS = {
+        "Project sync", "Weekly standup", "CS2103 Project", "CS1231 Meeting", "Design review", "Lunch",
+        "Client call", "Sprint planning", "Retrospective", "Coffee chat", "Interview", "Study group"
+    };
+    private static final String[] PLACES = {
+        "COM3", "COM1 Seminar Room", "Microsoft Teams", "Zoom", "Central Library", "UTown Starbucks",
+        "Meeting Room 2", "Office"
+    };
+    private static final String[] DESCRIPTIONS = {
+        "", "", "Discuss v1.3 features", "Go through the agenda", "Review last week's action items",
+        "Prepare for the demo", "Catch up"
+    };
+    private static final Note[] NOTES = {
+        new Note("Prefers email"), new Note("Met at career fair"), new Note("Likes coffee"),
+        new Note("Follow up next week"), new Note("Allergic to peanuts"), new Note("Team lead"),
+        new Note("Works remotely"), new Note("Owes me lunch"), new Note("Birthday in March"),
+        new Note("Interested in the internship")
+    };
+
+    private static final LocalDateTime FIRST_DAY = LocalDateTime.of(2023, 1, 1, 0, 0);
+    private static final int DAYS = 365;
+    private static final int FIRST_HOUR = 8;
+    private static final int HOURS = 10;
+    private static final int MAX_CONTACTS_PER_MEETING = 8;
+
+    private final Random random;
+
+    /**
+     * Creates a generator whose data is drawn from a random number generator seeded with {@code seed}.
+     */
+    public SyntheticDataGenerator(long seed) {
+        random = new Random(seed);
+    }
+
+    /**
+     * Returns an address book of {@code contactCount} contacts and {@code meetingCount} meetings, whose contacts and
+     * meetings have {@code meanNotes} notes on average.
+     */
+    public AddressBook generate(int contactCount, int meetingCount, int meanNotes) {
+        checkArgument(contactCount >= 0 && meetingCount >= 0 && meanNotes >= 0,
+            "Sizes of generated data must not be negative");
+        List<Contact> contacts = generateContacts(contactCount, meanNotes);
+        List<Meeting> meetings = generateMeetings(meetingCount, meanNotes, contacts);
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setContacts(contacts);
+        addressBook.setMeetings(meetings);
+        addressBook.clearChanges();
+        return addressBook;
+    }
+
+    private List<Contact> generateContacts(int count, int meanNotes) {
+        List<Contact> contacts = new ArrayList<>(count);
+        Map<String, Integer> nameCounts = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            String firstName = pick(FIRST_NAMES);
+            String lastName = pick(LAST_NAMES);
+            String baseName = firstName + " " + lastName;
+            int nameCount = nameCounts.merge(baseName, 1, Integer::sum);
+            String suffix = nameCount == 1 ? "" : String.valueOf(nameCount);
+            String name = nameCount == 1 ? baseName : baseName + " " + suffix;
+
+            String localPart = (firstName + "." + lastName).toLowerCase().replace(' ', '.') + suffix;
+            String phone = String.valueOf((random.nextBoolean() ? 80_000_000 : 90_000_000)
+                + random.nextInt(10_000_000));
+            contacts.add(new Contact(new Name(name), new Phone(phone),
+                new Email(localPart + "@" + pick(EMAIL_DOMAINS)), generateNotes(meanNotes)));
+        }
+        return contacts;
+    }
+
+    private List<Meeting> generateMeetings(int count, int meanNotes, List<Contact> contacts) {
+        List<Meeting> meetings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDateTime time = FIRST_DAY.plusDays(random.nextInt(DAYS))
+                .plusHours(FIRST_HOUR + random.nextInt(HOURS))
+                .plusMinutes(15 * random.nextInt(4));
+            meetings.add(new Meeting(new Title(pick(MEETING_TOPICS) + " " + (i + 1)), new Time(time),
+                new Place(pick(PLACES)), new Description(pick(DESCRIPTIONS)), generateNotes(meanNotes),
+                pickAttendees(contacts)));
+        }
+        return meetings;
+    }
+
+    /**
+     * Returns one contact, then each further one with half the chance of the last, up to
+     * {@code MAX_CONTACTS_PER_MEETING}. A contact is drawn with a chance that falls with its position in
+     * {@code contacts}.
+     */
+    private ArrayList<Contact> pickAttendees(List<Contact> contacts) {
+        ArrayList<Contact> attendees = new ArrayList<>();
+        if (contacts.isEmpty()) {
+            return attendees;
+        }
+        int count = 1;
+        while (count < MAX_CONTACTS_PER_MEETING && random.nextBoolean()) {
+            count++;
+        }
+        for (int i = 0; i < count; i++) {
+            double skew = random.nextDouble();
+            Contact attendee = contacts.get((int) (skew * skew * contacts.size()));
+            if (!attendees.contains(attendee)) {
+                attendees.add(attendee);
+            }
+        }
+        return attendees;
+    }
+
+    private List<Note> generateNotes(int meanNotes) {
+        int count = random.nextInt(2 * meanNotes + 1);
+        List<Note> notes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            notes.add(pick(NOTES));
+        }
+        return notes;
+    }
+
+    private <T> T pick(T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+}
@@ -8,6 +8,8 @@ import seedu.address.model.contact.Contact;
 
 /**
  * An UI component that displays information of a {@code Contact}.
+ * A card can be shown for another contact with {@link #setContact(Contact, int)}, so list cells can keep reusing
+ * the same card instead of loading a new one.
  */
 public class ContactCard extends UiPart<Region> {
 
@@ -21,7 +23,7 @@ public class ContactCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Contact contact;
+    private Contact contact;
 
     @FXML
     private HBox contactCardPane;
@@ -31,13 +33,31 @@ public class ContactCard extends UiPart<Region> {
     private Label id;
 
 
+    /**
+     * Creates a {@code ContactCard} that displays no contact until {@link #setContact(Contact, int)} is called.
+     */
+    public ContactCard() {
+        super(FXML);
+    }
+
     /**
      * Creates a {@code ContactCode} with the given {@code Contact} and index to display.
      */
     public ContactCard(Contact contact, int displayedIndex) {
-        super(FXML);
+        this();
+        setContact(contact, displayedIndex);
+    }
+
+    /**
+     * Displays {@code contact} with the given index on this card instead of the contact it displayed before.
+     */
+    public void setContact(Contact contact, int displayedIndex) {
         this.contact = contact;
         id.setText(displayedIndex + ". ");
         name.setText(contact.getName().fullName);
     }
+
+    public Contact getContact() {
+        return contact;
+    }
 }
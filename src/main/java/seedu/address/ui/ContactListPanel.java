@@ -31,8 +31,11 @@ public class ContactListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Contact} using a {@code ContactCard}.
+     * The card is loaded when the cell first shows a contact, then reused for every contact the cell shows.
      */
     class ContactListViewCell extends ListCell<Contact> {
+        private ContactCard card;
+
         @Override
         protected void updateItem(Contact contact, boolean empty) {
             super.updateItem(contact, empty);
@@ -41,7 +44,11 @@ public class ContactListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new ContactCard(contact, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new ContactCard();
+                }
+                card.setContact(contact, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
@@ -8,6 +8,8 @@ import seedu.address.model.meeting.Meeting;
 
 /**
  * An UI component that displays information of a {@code Meeting}.
+ * A card can be shown for another meeting with {@link #setMeeting(Meeting, int)}, so list cells can keep reusing
+ * the same card instead of loading a new one.
  */
 public class MeetingCard extends UiPart<Region> {
 
@@ -21,7 +23,7 @@ public class MeetingCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Meeting meeting;
+    private Meeting meeting;
 
     @FXML
     private HBox meetingCardPane;
@@ -36,14 +38,32 @@ public class MeetingCard extends UiPart<Region> {
     @FXML
     private Label description;
 
+    /**
+     * Creates a {@code MeetingCard} that displays no meeting until {@link #setMeeting(Meeting, int)} is called.
+     */
+    public MeetingCard() {
+        super(FXML);
+    }
+
     /**
      * Creates a {@code MeetingCode} with the given {@code Meeting} and index to display.
      */
     public MeetingCard(Meeting meeting, int displayedIndex) {
-        super(FXML);
+        this();
+        setMeeting(meeting, displayedIndex);
+    }
+
+    /**
+     * Displays {@code meeting} with the given index on this card instead of the meeting it displayed before.
+     */
+    public void setMeeting(Meeting meeting, int displayedIndex) {
         this.meeting = meeting;
         id.setText(displayedIndex + ". ");
         title.setText(meeting.getTitle().fullTitle);
     }
 
+    public Meeting getMeeting() {
+        return meeting;
+    }
+
 }
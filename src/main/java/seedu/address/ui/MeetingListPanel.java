@@ -31,8 +31,11 @@ public class MeetingListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Meeting} using a {@code MeetingCard}.
+     * The card is loaded when the cell first shows a meeting, then reused for every meeting the cell shows.
      */
     class MeetingListViewCell extends ListCell<Meeting> {
+        private MeetingCard card;
+
         @Override
         protected void updateItem(Meeting meeting, boolean empty) {
             super.updateItem(meeting, empty);
@@ -41,7 +44,11 @@ public class MeetingListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new MeetingCard(meeting, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new MeetingCard();
+                }
+                card.setMeeting(meeting, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
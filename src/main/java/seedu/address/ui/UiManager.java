@@ -1,5 +1,6 @@
 package seedu.address.ui;
 
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
@@ -22,6 +23,12 @@ public class UiManager implements Ui {
     private static final Logger logger = LogsCenter.getLogger(UiManager.class);
     private static final String ICON_APPLICATION = "/images/notenote.png";
 
+    /** The FXML files of the UI parts built at startup or soon after. */
+    private static final List<String> FXML_FILES = List.of("MainWindow.fxml", "HelpWindow.fxml",
+        "CommandBox.fxml", "ResultDisplay.fxml", "ContactListPanel.fxml", "ContactListCard.fxml",
+        "MeetingListPanel.fxml", "MeetingListCard.fxml", "ContactDetailPanel.fxml", "MeetingDetailPanel.fxml",
+        "NoteArea.fxml");
+
     private Logic logic;
     private MainWindow mainWindow;
 
@@ -32,6 +39,15 @@ public class UiManager implements Ui {
         this.logic = logic;
     }
 
+    /**
+     * Loads the classes the FXML files of the UI import ahead of time, so that starting the UI does not wait for
+     * them.
+     * This can be called from any thread, such as while the data file loads.
+     */
+    public static void preloadViews() {
+        UiPart.preload(FXML_FILES);
+    }
+
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting UI...");
@@ -3,7 +3,12 @@ package seedu.address.ui;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import javafx.fxml.FXMLLoader;
 import seedu.address.MainApp;
@@ -11,12 +16,17 @@ import seedu.address.MainApp;
 /**
  * Represents a distinct part of the UI. e.g. Windows, dialogs, panels, status bars, etc.
  * It contains a scene graph with a root node of type {@code T}.
+ * <p>
+ * {@link #preload(List)} loads the classes that FXML files import ahead of time, so that the first UiParts built
+ * from them do not wait for the classes to load.
  */
 public abstract class UiPart<T> {
 
     /** Resource folder where FXML files are stored. */
     public static final String FXML_FILE_FOLDER = "/view/";
 
+    private static final Pattern IMPORT_PATTERN = Pattern.compile("<\\?import\\s+([\\w.]+)\\s*\\?>");
+
     private final FXMLLoader fxmlLoader = new FXMLLoader();
 
     /**
@@ -75,6 +85,44 @@ public abstract class UiPart<T> {
         }
     }
 
+    /**
+     * Loads the classes that the FXML files {@code fxmlFileNames} within {@link #FXML_FILE_FOLDER} import, so that
+     * UiParts built from them later do not. Files that cannot be read are skipped, and fail when a UiPart is built
+     * from them instead.
+     * This can be called from any thread.
+     */
+    public static void preload(List<String> fxmlFileNames) {
+        for (String fxmlFileName : fxmlFileNames) {
+            URL fxmlFileUrl = MainApp.class.getResource(FXML_FILE_FOLDER + fxmlFileName);
+            if (fxmlFileUrl == null) {
+                continue;
+            }
+            try {
+                loadImportedClasses(readFxmlFile(fxmlFileUrl));
+            } catch (IOException e) {
+                // Left to be reported when a UiPart loads the file
+            }
+        }
+    }
+
+    private static byte[] readFxmlFile(URL location) throws IOException {
+        try (InputStream inputStream = location.openStream()) {
+            return inputStream.readAllBytes();
+        }
+    }
+
+    private static void loadImportedClasses(byte[] fxmlFileContents) {
+        Matcher matcher = IMPORT_PATTERN.matcher(new String(fxmlFileContents, StandardCharsets.UTF_8));
+        while (matcher.find()) {
+            try {
+                // Loading without initializing is safe off the JavaFX application thread
+                Class.forName(matcher.group(1), false, UiPart.class.getClassLoader());
+            } catch (ClassNotFoundException e) {
+                // Left to be reported when a UiPart loads the file
+            }
+        }
+    }
+
     /**
      * Returns the FXML file URL for the specified FXML file name within {@link #FXML_FILE_FOLDER}.
      */
@@ -2,9 +2,11 @@ package seedu.address.ui.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBookChange;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
@@ -43,4 +45,39 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Saves the modifications {@code changes} that brought the stored data up to date with {@code addressBook}.
+     * Backends that cannot write partial updates save the whole of {@code addressBook} instead.
+     * <p>
+     * A save that fails is retried with the same {@code changes}, followed by any made since, so a backend must
+     * not leave part of a failed save behind in a way that saving the same changes again would not repair.
+     *
+     * @param addressBook cannot be null.
+     * @param changes the modifications since the last save, oldest first. Cannot be null.
+     * @throws IOException if there was any problem writing to the storage. What was stored before the call must
+     *     still be readable, and saving the same changes again must bring it up to date.
+     */
+    default void saveAddressBookChanges(ReadOnlyAddressBook addressBook, List<AddressBookChange> changes)
+            throws IOException {
+        saveAddressBook(addressBook);
+    }
+
+    /**
+     * Throws the error of the last save that failed since the previous call, for backends that save in the
+     * background. Backends that save synchronously throw from the save methods instead and need not do anything.
+     *
+     * @throws IOException the error of the failed save.
+     */
+    default void throwIfSaveFailed() throws IOException {
+    }
+
+    /**
+     * Releases any resources held by this storage, making sure everything saved so far has reached the disk.
+     * Backends that write each save through in full need not do anything.
+     *
+     * @throws IOException if there was any problem finishing the pending writes.
+     */
+    default void close() throws IOException {
+    }
+
 }
@@ -0,0 +1,249 @@
+package seedu.address.ui.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.meeting.Meeting;
+
+/**
+ * An {@code AddressBookStorage} that saves to another {@code AddressBookStorage} on a background writer thread,
+ * so that commands do not wait for the disk.
+ * <p>
+ * Each save takes a snapshot of the address book's lists and its changes on the calling thread and queues it.
+ * Contacts and meetings are immutable, so the snapshot shares them with the model rather than copying them. Saves
+ * queued while the writer is busy are merged, so only the latest address book is written, together with every
+ * change since the last completed write. A save that fails is kept and retried with the next one, and its error is
+ * reported by the next call to {@link #throwIfSaveFailed()}. {@link #close()} writes whatever is still queued.
+ */
+public class AsyncAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncAddressBookStorage.class);
+
+    private static final long CLOSE_TIMEOUT_SECONDS = 60;
+
+    private final AddressBookStorage storage;
+    private final ExecutorService writer;
+
+    // The fields below are guarded by this object's lock
+    private ReadOnlyAddressBook pendingAddressBook;
+    private final List<AddressBookChange> pendingChanges = new ArrayList<>();
+    private boolean isWriteScheduled;
+    private IOException failure;
+
+    /**
+     * Creates an {@code AsyncAddressBookStorage} that writes to {@code storage} in the background.
+     */
+    public AsyncAddressBookStorage(AddressBookStorage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Reads the address book from the underlying storage once every queued save has been written.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        flush();
+        return storage.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBookChanges(addressBook, Collections.singletonList(AddressBookChange.reset()));
+    }
+
+    /**
+     * Saves {@code addressBook} to {@code filePath} on the calling thread.
+     * Only saves to the file of the underlying storage go through the background writer.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(filePath);
+
+        if (filePath.equals(getAddressBookFilePath())) {
+            saveAddressBook(addressBook);
+        } else {
+            storage.saveAddressBook(addressBook, filePath);
+        }
+    }
+
+    @Override
+    public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, List<AddressBookChange> changes) {
+        requireNonNull(addressBook);
+        requireNonNull(changes);
+
+        ReadOnlyAddressBook addressBookSnapshot = new AddressBookSnapshot(addressBook);
+        List<AddressBookChange> changesSnapshot = List.copyOf(changes);
+
+        synchronized (this) {
+            pendingAddressBook = addressBookSnapshot;
+            addPendingChanges(changesSnapshot);
+            scheduleWrite();
+        }
+    }
+
+    /**
+     * Appends {@code changes} to the pending changes. Changes before a reset are dropped, since a reset makes the
+     * underlying storage save the whole address book anyway.
+     */
+    private void addPendingChanges(List<AddressBookChange> changes) {
+        assert Thread.holdsLock(this);
+
+        if (changes.contains(AddressBookChange.reset())) {
+            pendingChanges.clear();
+        }
+        pendingChanges.addAll(changes);
+    }
+
+    private void scheduleWrite() {
+        assert Thread.holdsLock(this);
+
+        if (!isWriteScheduled && pendingAddressBook != null) {
+            isWriteScheduled = true;
+            writer.execute(this::writePending);
+        }
+    }
+
+    /**
+     * Writes the pending save, if any, to the underlying storage. Runs on the writer thread.
+     */
+    private void writePending() {
+        ReadOnlyAddressBook addressBook;
+        List<AddressBookChange> changes;
+        synchronized (this) {
+            isWriteScheduled = false;
+            if (pendingAddressBook == null) {
+                return;
+            }
+            addressBook = pendingAddressBook;
+            changes = new ArrayList<>(pendingChanges);
+            pendingAddressBook = null;
+            pendingChanges.clear();
+        }
+
+        try {
+            storage.saveAddressBookChanges(addressBook, changes);
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Failed to save " + getAddressBookFilePath() + " in the background: " + e);
+            synchronized (this) {
+                // Put the failed save back in front of anything queued meanwhile, to be retried with the next save.
+                // Storages leave nothing of a failed save behind that saving the same changes again would not repair.
+                if (pendingAddressBook == null) {
+                    pendingAddressBook = addressBook;
+                }
+                changes.addAll(pendingChanges);
+                pendingChanges.clear();
+                addPendingChanges(changes);
+                failure = e instanceof IOException ? (IOException) e : new IOException(e);
+            }
+        }
+    }
+
+    /**
+     * Throws the error of the last background save that failed since the previous call, if any.
+     */
+    @Override
+    public synchronized void throwIfSaveFailed() throws IOException {
+        IOException lastFailure = failure;
+        failure = null;
+        if (lastFailure != null) {
+            throw lastFailure;
+        }
+    }
+
+    /**
+     * Blocks until every save queued so far has been attempted.
+     */
+    public void flush() {
+        try {
+            writer.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new AssertionError("An empty task cannot fail", e);
+        }
+    }
+
+    /**
+     * Writes whatever is still queued, then closes the underlying storage.
+     *
+     * @throws IOException if the queued save could not be written.
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            scheduleWrite();
+        }
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Timed out waiting for " + getAddressBookFilePath() + " to be saved");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        throwIfSaveFailed();
+        storage.close();
+    }
+
+    /**
+     * The contacts and meetings of an address book at the time it was saved, which later changes to the address
+     * book do not affect.
+     */
+    private static class AddressBookSnapshot implements ReadOnlyAddressBook {
+        private final ObservableList<Contact> contacts;
+        private final ObservableList<Meeting> meetings;
+
+        AddressBookSnapshot(ReadOnlyAddressBook addressBook) {
+            contacts = FXCollections.unmodifiableObservableList(
+                FXCollections.observableList(List.copyOf(addressBook.getContactList())));
+            meetings = FXCollections.unmodifiableObservableList(
+                FXCollections.observableList(List.copyOf(addressBook.getMeetingList())));
+        }
+
+        @Override
+        public ObservableList<Contact> getContactList() {
+            return contacts;
+        }
+
+        @Override
+        public ObservableList<Meeting> getMeetingList() {
+            return meetings;
+        }
+    }
+
+}
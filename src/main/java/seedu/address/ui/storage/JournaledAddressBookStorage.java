@@ -0,0 +1,453 @@
+package seedu.address.ui.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.meeting.Meeting;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot plus an append-only journal of changes.
+ * <p>
+ * Each save appends one line per {@link AddressBookChange} to the current journal file instead of rewriting the
+ * whole address book, so the cost of a save depends on the size of the change rather than the size of the data.
+ * Journal files sit next to the snapshot and are named {@code <snapshot file name>.journal.<generation>}.
+ * Once the current journal holds {@code compactionThreshold} records, a new generation is started and the snapshot
+ * is rewritten in the background, after which the journals it covers are deleted.
+ * <p>
+ * Reading loads the snapshot and replays the journals in generation order. Replaying a record is idempotent, so a
+ * crash between writing a snapshot and deleting its journals loses nothing. A torn last record, left by a crash
+ * in the middle of an append, is discarded and cut from its journal, whichever generation the journal is.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_SYNC_BATCH_SIZE = 32;
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 10_000;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private static final String JOURNAL_INFIX = ".journal.";
+
+    private final Path filePath;
+    private final boolean isPrettyPrinted;
+    private final int syncBatchSize;
+    private final int compactionThreshold;
+    private final ExecutorService compactor;
+
+    private FileChannel journal;
+    private long currentGeneration = -1;
+    private int journalEntryCount;
+    private int unsyncedEntryCount;
+    private Future<?> pendingCompaction;
+
+    public JournaledAddressBookStorage(Path filePath, boolean isPrettyPrinted) {
+        this(filePath, isPrettyPrinted, DEFAULT_SYNC_BATCH_SIZE, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} with {@code filePath} as its snapshot file.
+     *
+     * @param isPrettyPrinted whether snapshots are indented. Journal records are always written one per line.
+     * @param syncBatchSize the number of records appended between forcing the journal to the storage device.
+     * @param compactionThreshold the number of records in a journal after which the snapshot is rewritten.
+     */
+    public JournaledAddressBookStorage(Path filePath, boolean isPrettyPrinted, int syncBatchSize,
+                                       int compactionThreshold) {
+        requireNonNull(filePath);
+        assert syncBatchSize > 0 && compactionThreshold > 0;
+
+        this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
+        this.syncBatchSize = syncBatchSize;
+        this.compactionThreshold = compactionThreshold;
+        this.compactor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        try {
+            List<Path> journals = findJournals(filePath);
+            if (!Files.exists(filePath) && journals.isEmpty()) {
+                return Optional.empty();
+            }
+
+            AddressBook snapshot = Files.exists(filePath) ? JsonAddressBookReader.read(filePath) : new AddressBook();
+            Map<Long, Contact> contacts = new LinkedHashMap<>();
+            snapshot.getContactList().forEach(contact -> contacts.put(contact.getId(), contact));
+            Map<Long, JsonAdaptedMeeting> meetings = new LinkedHashMap<>();
+            snapshot.getMeetingList().forEach(meeting -> meetings.put(meeting.getId(),
+                new JsonAdaptedMeeting(meeting)));
+
+            for (Path journalPath : journals) {
+                replay(journalPath, contacts, meetings);
+            }
+            logger.info("Loaded " + filePath + " and replayed " + journals.size() + " journal file(s).");
+
+            // Meetings are linked only now, since records may have replaced the contacts they refer to
+            Map<String, Contact> contactsByName = new HashMap<>();
+            contacts.values().forEach(contact -> contactsByName.put(contact.getNameString(), contact));
+            List<Meeting> modelMeetings = new ArrayList<>();
+            for (JsonAdaptedMeeting meeting : meetings.values()) {
+                modelMeetings.add(meeting.toModelType(contacts, contactsByName));
+            }
+
+            AddressBook addressBook = new AddressBook();
+            addressBook.setContacts(new ArrayList<>(contacts.values()));
+            addressBook.setMeetings(modelMeetings);
+            return Optional.of(addressBook);
+        } catch (IOException e) {
+            logger.warning("Error reading from " + filePath + " or its journal: " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + " or its journal: " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Applies each record in {@code journalPath} to {@code contacts} and {@code meetings}.
+     * Every record is written with its line ending in a single append, so anything after the last line ending can
+     * only be the result of an append interrupted by a crash. It is skipped, and cut from the journal so that it is
+     * not mistaken for a corrupted record once later generations have been appended.
+     */
+    private static void replay(Path journalPath, Map<Long, Contact> contacts,
+                               Map<Long, JsonAdaptedMeeting> meetings) throws IOException, IllegalValueException {
+        byte[] bytes = Files.readAllBytes(journalPath);
+        int completeLength = bytes.length;
+        while (completeLength > 0 && bytes[completeLength - 1] != '\n') {
+            completeLength--;
+        }
+        if (completeLength < bytes.length) {
+            logger.warning("Discarding incomplete last record of " + journalPath);
+            truncate(journalPath, completeLength);
+        }
+
+        for (String line : new String(bytes, 0, completeLength, UTF_8).split("\n")) {
+            if (!line.isEmpty()) {
+                JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class).applyTo(contacts, meetings);
+            }
+        }
+    }
+
+    /**
+     * Cuts {@code journalPath} down to its first {@code length} bytes. A journal that cannot be written to is left
+     * as it is, since its torn record is skipped whenever it is replayed.
+     */
+    private static void truncate(Path journalPath, long length) {
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.WRITE)) {
+            channel.truncate(length);
+            channel.force(false);
+        } catch (IOException e) {
+            logger.warning("Failed to cut the incomplete last record from " + journalPath + ": " + e);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving to the snapshot file of this storage also discards its journals; saving to any other file writes a
+     * plain json file.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            FileUtil.createIfMissing(filePath);
+            JsonAddressBookWriter.write(addressBook, filePath, isPrettyPrinted);
+            return;
+        }
+
+        JsonSerializableAddressBook snapshot = new JsonSerializableAddressBook(addressBook);
+        long coveredGeneration = rotateJournal();
+        awaitCompaction(compactor.submit(() -> {
+            installSnapshot(snapshot, coveredGeneration);
+            return null;
+        }));
+    }
+
+    @Override
+    public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, List<AddressBookChange> changes)
+            throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(changes);
+
+        if (changes.stream().anyMatch(change -> change.getType() == AddressBookChange.Type.RESET)) {
+            saveAddressBook(addressBook);
+            return;
+        }
+
+        StringBuilder records = new StringBuilder();
+        for (AddressBookChange change : changes) {
+            records.append(JsonUtil.toCompactJsonString(new JsonAdaptedJournalEntry(change))).append('\n');
+        }
+        append(records.toString(), changes.size());
+
+        if (journalEntryCount >= compactionThreshold && !isCompacting()) {
+            compactInBackground(addressBook);
+        }
+    }
+
+    /**
+     * Appends {@code records}, which hold {@code recordCount} journal records, to the current journal.
+     * If the append fails, whatever part of it was written is cut off again, so that the records can be retried
+     * without leaving a fragment in the middle of the journal.
+     */
+    private void append(String records, int recordCount) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(records.getBytes(UTF_8));
+        FileChannel channel = getJournal();
+        long sizeBeforeAppend = channel.size();
+        try {
+            write(channel, buffer);
+        } catch (IOException e) {
+            rollBack(channel, sizeBeforeAppend, e);
+            throw e;
+        }
+
+        journalEntryCount += recordCount;
+        unsyncedEntryCount += recordCount;
+        if (unsyncedEntryCount >= syncBatchSize) {
+            channel.force(false);
+            unsyncedEntryCount = 0;
+        }
+    }
+
+    /**
+     * Writes all of {@code buffer} to the end of {@code journal}.
+     */
+    protected void write(FileChannel journal, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            journal.write(buffer);
+        }
+    }
+
+    /**
+     * Cuts {@code channel}, the current journal, back to {@code size} after a failed append. If even that fails,
+     * the journal is abandoned and later records go to a new generation, which leaves the fragment as the torn last
+     * record of its journal, where it is skipped when replayed.
+     */
+    private void rollBack(FileChannel channel, long size, IOException appendFailure) {
+        try {
+            channel.truncate(size);
+            return;
+        } catch (IOException e) {
+            appendFailure.addSuppressed(e);
+            logger.warning("Failed to cut a failed append from the journal of " + filePath + ": " + e);
+        }
+
+        journal = null;
+        try {
+            channel.close();
+        } catch (IOException e) {
+            appendFailure.addSuppressed(e);
+        }
+        currentGeneration++;
+        journalEntryCount = 0;
+        unsyncedEntryCount = 0;
+    }
+
+    /**
+     * Starts rewriting the snapshot from {@code addressBook} in the background.
+     * The model is read on the calling thread; only the already adapted copy is handed to the compactor.
+     */
+    private void compactInBackground(ReadOnlyAddressBook addressBook) throws IOException {
+        JsonSerializableAddressBook snapshot = new JsonSerializableAddressBook(addressBook);
+        long coveredGeneration = rotateJournal();
+        logger.info("Compacting " + filePath + " up to journal generation " + coveredGeneration);
+        pendingCompaction = compactor.submit(() -> {
+            try {
+                installSnapshot(snapshot, coveredGeneration);
+            } catch (IOException e) {
+                // The journals are left in place, so the next compaction will cover them
+                logger.warning("Failed to compact " + filePath + ": " + e);
+            }
+        });
+    }
+
+    /**
+     * Writes {@code snapshot} over the snapshot file and deletes the journals up to {@code coveredGeneration}.
+     * The snapshot is replaced atomically, so a crash leaves either the old or the new snapshot behind.
+     */
+    private void installSnapshot(JsonSerializableAddressBook snapshot, long coveredGeneration) throws IOException {
+        JsonAddressBookWriter.write(snapshot, filePath, isPrettyPrinted);
+
+        for (Path journalPath : findJournals(filePath)) {
+            if (generationOf(filePath, journalPath) <= coveredGeneration) {
+                Files.deleteIfExists(journalPath);
+            }
+        }
+    }
+
+    /**
+     * Closes the current journal so that later records go to a new generation.
+     *
+     * @return the generation of the journal that was closed.
+     */
+    private long rotateJournal() throws IOException {
+        long closedGeneration = getCurrentGeneration();
+        closeJournal();
+        currentGeneration = closedGeneration + 1;
+        journalEntryCount = 0;
+        return closedGeneration;
+    }
+
+    private FileChannel getJournal() throws IOException {
+        if (journal == null) {
+            FileUtil.createParentDirsOfFile(filePath);
+            journal = FileChannel.open(journalPath(getCurrentGeneration()),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+        return journal;
+    }
+
+    /**
+     * Returns the generation records are appended to, which starts after any journals left by an earlier run.
+     */
+    private long getCurrentGeneration() throws IOException {
+        if (currentGeneration < 0) {
+            List<Path> journals = findJournals(filePath);
+            currentGeneration = journals.isEmpty()
+                ? 0
+                : generationOf(filePath, journals.get(journals.size() - 1)) + 1;
+        }
+        return currentGeneration;
+    }
+
+    private Path journalPath(long generation) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_INFIX + generation);
+    }
+
+    private void closeJournal() throws IOException {
+        if (journal != null) {
+            journal.force(false);
+            journal.close();
+            journal = null;
+            unsyncedEntryCount = 0;
+        }
+    }
+
+    private boolean isCompacting() {
+        return pendingCompaction != null && !pendingCompaction.isDone();
+    }
+
+    private static void awaitCompaction(Future<?> compaction) throws IOException {
+        try {
+            compaction.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while writing the snapshot", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof IOException ? (IOException) cause : new IOException(cause);
+        }
+    }
+
+    /**
+     * Returns the journals of the snapshot at {@code snapshotPath}, oldest generation first.
+     */
+    private static List<Path> findJournals(Path snapshotPath) throws IOException {
+        Path directory = snapshotPath.toAbsolutePath().getParent();
+        if (directory == null || !Files.isDirectory(directory)) {
+            return Collections.emptyList();
+        }
+
+        List<Path> journals = new ArrayList<>();
+        String glob = snapshotPath.getFileName() + JOURNAL_INFIX + "*";
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, glob)) {
+            for (Path path : stream) {
+                if (generationOf(snapshotPath, path) >= 0) {
+                    journals.add(path);
+                }
+            }
+        }
+        journals.sort((first, second) ->
+            Long.compare(generationOf(snapshotPath, first), generationOf(snapshotPath, second)));
+        return journals;
+    }
+
+    /**
+     * Returns the generation of {@code journalPath}, or -1 if it is not a journal of {@code snapshotPath}.
+     */
+    private static long generationOf(Path snapshotPath, Path journalPath) {
+        String prefix = snapshotPath.getFileName() + JOURNAL_INFIX;
+        String fileName = journalPath.getFileName().toString();
+        try {
+            return Long.parseLong(fileName.substring(prefix.length()));
+        } catch (NumberFormatException | IndexOutOfBoundsException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Forces the current journal to the storage device and waits for any snapshot being written.
+     */
+    @Override
+    public void close() throws IOException {
+        closeJournal();
+        compactor.shutdown();
+        try {
+            compactor.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -12,54 +12,69 @@ import seedu.address.model.contact.Contact;
 import seedu.address.model.contact.Email;
 import seedu.address.model.contact.Name;
 import seedu.address.model.contact.Phone;
-import seedu.address.model.meeting.Meeting;
 import seedu.address.model.note.Note;
+import seedu.address.model.util.IdGenerator;
 
 /**
  * Jackson-friendly version of {@link Contact}.
+ * The meetings a contact is in are not stored with it; they are known from the meetings' references to the contact.
+ * The {@code observerList} of files saved in the older nested format is ignored.
+ * Contacts saved before contacts had IDs are given a new ID when loaded.
  */
 public class JsonAdaptedContact {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Contact's %s field is missing!";
+    public static final String INVALID_ID_MESSAGE = "Contact's id must be a positive number";
 
+    private final Long id;
     private final String name;
     private final String phone;
     private final String email;
 
     private final List<JsonAdaptedNote> notes = new ArrayList<>();
-    private final ArrayList<JsonAdaptedMeeting> observerList = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedContact} with the given contact details and no ID.
+     */
+    public JsonAdaptedContact(String name, String phone, String email, List<JsonAdaptedNote> notes) {
+        this(null, name, phone, email, notes);
+    }
 
     /**
      * Constructs a {@code JsonAdaptedContact} with the given contact details.
      */
     @JsonCreator
-    public JsonAdaptedContact(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
-                              @JsonProperty("email") String email, @JsonProperty("notes") List<JsonAdaptedNote> notes,
-                              @JsonProperty("observerList") ArrayList<JsonAdaptedMeeting> observerList) {
+    public JsonAdaptedContact(@JsonProperty("id") Long id, @JsonProperty("name") String name,
+                              @JsonProperty("phone") String phone, @JsonProperty("email") String email,
+                              @JsonProperty("notes") List<JsonAdaptedNote> notes) {
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
         if (notes != null) {
             this.notes.addAll(notes);
         }
-        if (observerList != null) {
-            this.observerList.addAll(observerList);
-        }
     }
 
     /**
      * Converts a given {@code Contact} into this class for Jackson use.
      */
     public JsonAdaptedContact(Contact source) {
+        id = source.getId();
         name = source.getName().fullName;
         phone = source.getPhone().value;
         email = source.getEmail().value;
         notes.addAll(source.getNotes().stream()
             .map(JsonAdaptedNote::new)
             .collect(Collectors.toList()));
-        observerList.addAll(source.getObservers().stream()
-            .map(JsonAdaptedMeeting::new)
-            .collect(Collectors.toList()));
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
     }
 
     /**
@@ -72,10 +87,11 @@ public class JsonAdaptedContact {
         for (JsonAdaptedNote note : notes) {
             contactNotes.add(note.toModelType());
         }
-        final ArrayList<Meeting> contactObservers = new ArrayList<>();
-        for (JsonAdaptedMeeting observer : observerList) {
-            contactObservers.add(observer.toModelType());
+        if (id != null && !IdGenerator.isValidId(id)) {
+            throw new IllegalValueException(INVALID_ID_MESSAGE);
         }
+        final long modelId = id != null ? id : IdGenerator.nextId();
+
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
@@ -102,9 +118,7 @@ public class JsonAdaptedContact {
 
         final ArrayList<Note> modelNotes = new ArrayList<>(contactNotes);
 
-        final ArrayList<Meeting> modelObservers = new ArrayList<>(contactObservers);
-
-        return new Contact(modelName, modelPhone, modelEmail, modelNotes, modelObservers);
+        return new Contact(modelId, modelName, modelPhone, modelEmail, modelNotes);
     }
 
 }
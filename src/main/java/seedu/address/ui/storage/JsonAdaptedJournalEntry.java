@@ -0,0 +1,126 @@
+package seedu.address.ui.storage;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.contact.Contact;
+
+/**
+ * Jackson-friendly version of an {@link AddressBookChange}, stored as one record of an address book journal.
+ * A record identifies the contact or meeting it replaces or removes by its ID, and carries the full state of the
+ * contact or meeting after the change, so replaying a record is idempotent.
+ */
+public class JsonAdaptedJournalEntry {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal entry's %s field is missing!";
+    public static final String MESSAGE_INVALID_TYPE = "Journal entry has an unknown type: %s";
+
+    private final String type;
+    private final Long id;
+    private final JsonAdaptedContact contact;
+    private final JsonAdaptedMeeting meeting;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("type") String type, @JsonProperty("id") Long id,
+                                   @JsonProperty("contact") JsonAdaptedContact contact,
+                                   @JsonProperty("meeting") JsonAdaptedMeeting meeting) {
+        this.type = type;
+        this.id = id;
+        this.contact = contact;
+        this.meeting = meeting;
+    }
+
+    /**
+     * Converts a given {@code AddressBookChange} into this class for Jackson use.
+     * {@code source} must not be a {@link AddressBookChange.Type#RESET} change, which cannot be journaled.
+     */
+    public JsonAdaptedJournalEntry(AddressBookChange source) {
+        assert source.getType() != AddressBookChange.Type.RESET;
+
+        type = source.getType().name();
+        id = source.getContact() != null ? Long.valueOf(source.getContact().getId())
+            : source.getMeeting() != null ? Long.valueOf(source.getMeeting().getId())
+            : null;
+        contact = source.getEditedContact() != null ? new JsonAdaptedContact(source.getEditedContact()) : null;
+        meeting = source.getEditedMeeting() != null ? new JsonAdaptedMeeting(source.getEditedMeeting()) : null;
+    }
+
+    /**
+     * Applies this record to {@code contacts} and {@code meetings}, which map the ID of each contact and meeting to
+     * the contact or meeting. Meetings are kept in their adapted form, since the contacts they refer to may still
+     * change in later records.
+     *
+     * @throws IllegalValueException if this record is incomplete or there were any data constraints violated.
+     */
+    public void applyTo(Map<Long, Contact> contacts, Map<Long, JsonAdaptedMeeting> meetings)
+            throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "type"));
+        }
+
+        AddressBookChange.Type changeType;
+        try {
+            changeType = AddressBookChange.Type.valueOf(type);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_TYPE, type));
+        }
+
+        switch (changeType) {
+        case CONTACT_ADDED:
+            putContact(contacts);
+            break;
+        case CONTACT_EDITED:
+            contacts.remove(requireId());
+            putContact(contacts);
+            break;
+        case CONTACT_REMOVED:
+            contacts.remove(requireId());
+            break;
+        case MEETING_ADDED:
+            putMeeting(meetings);
+            break;
+        case MEETING_EDITED:
+            meetings.remove(requireId());
+            putMeeting(meetings);
+            break;
+        case MEETING_REMOVED:
+            meetings.remove(requireId());
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_TYPE, type));
+        }
+    }
+
+    /**
+     * Returns the ID of the entry this record replaces or removes.
+     */
+    private long requireId() throws IllegalValueException {
+        if (id == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "id"));
+        }
+        return id;
+    }
+
+    private void putContact(Map<Long, Contact> contacts) throws IllegalValueException {
+        if (contact == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "contact"));
+        }
+        Contact modelContact = contact.toModelType();
+        contacts.put(modelContact.getId(), modelContact);
+    }
+
+    private void putMeeting(Map<Long, JsonAdaptedMeeting> meetings) throws IllegalValueException {
+        if (meeting == null || meeting.getId() == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "meeting"));
+        }
+        meetings.put(meeting.getId(), meeting);
+    }
+
+}
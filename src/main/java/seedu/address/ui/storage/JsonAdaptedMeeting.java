@@ -2,11 +2,14 @@ package seedu.address.ui.storage;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.contact.Contact;
 import seedu.address.model.meeting.Description;
@@ -15,29 +18,53 @@ import seedu.address.model.meeting.Place;
 import seedu.address.model.meeting.Time;
 import seedu.address.model.meeting.Title;
 import seedu.address.model.note.Note;
+import seedu.address.model.util.IdGenerator;
 
 /**
  * Jackson-friendly version of {@link Meeting}.
+ * A meeting refers to its contacts by ID instead of holding copies of them, so each contact is stored once no
+ * matter how many meetings it is in, and renaming a contact does not break the reference. Files saved in the older
+ * nested format, before contacts had IDs, hold full copies of the contacts under {@code contacts} instead; those are
+ * resolved by name when the file is loaded.
  */
 public class JsonAdaptedMeeting {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Meeting's %s field is missing!";
+    public static final String INVALID_ID_MESSAGE = "Meeting's id must be a positive number";
 
+    private static final Logger logger = LogsCenter.getLogger(JsonAdaptedMeeting.class);
+
+    private final Long id;
     private final String title;
     private final String time;
     private final String place;
     private final String description;
     private final List<JsonAdaptedNote> notes = new ArrayList<>();
-    private final List<JsonAdaptedContact> contacts = new ArrayList<>();
+    private final List<Long> contactIds = new ArrayList<>();
+    // Only read from files in the older nested format, so it is not written out
+    private final transient List<String> nestedContactNames = new ArrayList<>();
 
     /**
      * Constructs a {@code JsonAdaptedMeeting} with the given meeting details.
      */
+    public JsonAdaptedMeeting(Long id, String title, String time, String place, String description,
+                              List<JsonAdaptedNote> notes, List<Long> contactIds) {
+        this(id, title, time, place, description, notes, contactIds, null);
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedMeeting} with the given meeting details, as read from any format.
+     *
+     * @param nestedContacts the embedded contacts of the older nested format, or null.
+     */
     @JsonCreator
-    public JsonAdaptedMeeting(@JsonProperty("title") String title, @JsonProperty("time") String time,
-                              @JsonProperty("place") String place, @JsonProperty("description") String description,
-                              @JsonProperty("notes") List<JsonAdaptedNote> notes,
-                              @JsonProperty("contacts") List<JsonAdaptedContact> contacts) {
+    private JsonAdaptedMeeting(@JsonProperty("id") Long id, @JsonProperty("title") String title,
+                               @JsonProperty("time") String time, @JsonProperty("place") String place,
+                               @JsonProperty("description") String description,
+                               @JsonProperty("notes") List<JsonAdaptedNote> notes,
+                               @JsonProperty("contactIds") List<Long> contactIds,
+                               @JsonProperty("contacts") List<JsonAdaptedContact> nestedContacts) {
+        this.id = id;
         this.title = title;
         this.time = time;
         this.place = place;
@@ -45,8 +72,11 @@ public class JsonAdaptedMeeting {
         if (notes != null) {
             this.notes.addAll(notes);
         }
-        if (contacts != null) {
-            this.contacts.addAll(contacts);
+        if (contactIds != null) {
+            this.contactIds.addAll(contactIds);
+        }
+        if (nestedContacts != null) {
+            nestedContacts.forEach(contact -> nestedContactNames.add(contact.getName()));
         }
     }
 
@@ -54,6 +84,7 @@ public class JsonAdaptedMeeting {
      * Converts a given {@code Meeting} into this class for Jackson use.
      */
     public JsonAdaptedMeeting(Meeting source) {
+        id = source.getId();
         title = source.getTitle().fullTitle;
         time = source.getTime().toString();
         place = source.getPlace().fullPlace;
@@ -61,26 +92,40 @@ public class JsonAdaptedMeeting {
         notes.addAll(source.getNotes().stream()
             .map(JsonAdaptedNote::new)
             .collect(Collectors.toList()));
-        ;
-        contacts.addAll(source.getContacts().stream()
-            .map(JsonAdaptedContact::new)
+        contactIds.addAll(source.getContacts().stream()
+            .map(Contact::getId)
             .collect(Collectors.toList()));
     }
 
+    public Long getId() {
+        return id;
+    }
+
     /**
      * Converts this Jackson-friendly adapted meeting object into the model's {@code Meeting} object.
+     * The meeting's contacts are looked up by ID in {@code contactsById}, or by name in {@code contactsByName} for
+     * files in the older nested format. References with no matching contact are dropped.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted meeting.
      */
-    public Meeting toModelType() throws IllegalValueException {
+    public Meeting toModelType(Map<Long, Contact> contactsById, Map<String, Contact> contactsByName)
+            throws IllegalValueException {
         final List<Note> meetingNotes = new ArrayList<>();
         final List<Contact> contactList = new ArrayList<>();
         for (JsonAdaptedNote note : notes) {
             meetingNotes.add(note.toModelType());
         }
-        for (JsonAdaptedContact c : contacts) {
-            contactList.add(c.toModelType());
+        for (Long contactId : contactIds) {
+            addContact(contactList, contactsById.get(contactId), contactId);
+        }
+        for (String contactName : nestedContactNames) {
+            addContact(contactList, contactsByName.get(contactName), contactName);
+        }
+
+        if (id != null && !IdGenerator.isValidId(id)) {
+            throw new IllegalValueException(INVALID_ID_MESSAGE);
         }
+        final long modelId = id != null ? id : IdGenerator.nextId();
 
         if (title == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Title.class.getSimpleName()));
@@ -116,7 +161,15 @@ public class JsonAdaptedMeeting {
         final ArrayList<Note> modelNotes = new ArrayList<>(meetingNotes);
         final ArrayList<Contact> modelContacts = new ArrayList<>(contactList);
 
-        return new Meeting(modelTitle, modelTime, modelPlace, modelDescription, modelNotes, modelContacts);
+        return new Meeting(modelId, modelTitle, modelTime, modelPlace, modelDescription, modelNotes, modelContacts);
+    }
+
+    private void addContact(List<Contact> contactList, Contact contact, Object reference) {
+        if (contact == null) {
+            logger.warning("Meeting '" + title + "' refers to a missing contact '" + reference + "'");
+        } else if (!contactList.contains(contact)) {
+            contactList.add(contact);
+        }
     }
 
 }
@@ -0,0 +1,139 @@
+package seedu.address.ui.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.meeting.Meeting;
+
+/**
+ * Reads an AddressBook from a JSON file one entry at a time.
+ * Each contact is bound, validated and added to the address book before the next one is read, so neither the file
+ * contents nor a {@link JsonSerializableAddressBook} of the whole file is held in memory. Meetings, which only hold
+ * references to their contacts, are converted after all contacts have been read.
+ */
+public class JsonAddressBookReader {
+
+    public static final String MESSAGE_NOT_AN_OBJECT = "Address book data must be a JSON object";
+    public static final String MESSAGE_NOT_AN_ARRAY = "Address book field '%s' must be a JSON array";
+
+    private static final String FIELD_CONTACTS = "contacts";
+    private static final String FIELD_MEETINGS = "meetings";
+
+    /**
+     * Returns the address book stored in {@code filePath}.
+     * Fields other than the contacts and meetings lists are ignored.
+     *
+     * @param filePath cannot be null.
+     * @throws IOException if the file could not be read or is not in the expected JSON format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+
+        // The contents are already saved, so recording every entry read as a change would only make garbage
+        AddressBook addressBook = new AddressBook();
+        addressBook.setRecordingChanges(false);
+        List<JsonAdaptedMeeting> meetings = new ArrayList<>();
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, MESSAGE_NOT_AN_OBJECT);
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                if (FIELD_CONTACTS.equals(fieldName)) {
+                    readContacts(parser, addressBook);
+                } else if (FIELD_MEETINGS.equals(fieldName)) {
+                    readMeetings(parser, meetings);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        // Meetings refer to contacts by ID (or by name in older files), so they are converted once every contact
+        // has been read
+        Map<Long, Contact> contactsById = new HashMap<>();
+        Map<String, Contact> contactsByName = new HashMap<>();
+        for (Contact contact : addressBook.getContactList()) {
+            contactsById.put(contact.getId(), contact);
+            contactsByName.put(contact.getNameString(), contact);
+        }
+        Set<Long> meetingIds = new HashSet<>();
+        for (JsonAdaptedMeeting jsonAdaptedMeeting : meetings) {
+            Meeting meeting = jsonAdaptedMeeting.toModelType(contactsById, contactsByName);
+            if (addressBook.hasMeeting(meeting) || !meetingIds.add(meeting.getId())) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_MEETING);
+            }
+            addressBook.addMeeting(meeting);
+        }
+        addressBook.setRecordingChanges(true);
+        return addressBook;
+    }
+
+    /**
+     * Reads the contacts array that {@code parser} is positioned at into {@code addressBook}.
+     */
+    private static void readContacts(JsonParser parser, AddressBook addressBook)
+            throws IOException, IllegalValueException {
+        if (!enterArray(parser, FIELD_CONTACTS)) {
+            return;
+        }
+
+        Set<Long> contactIds = new HashSet<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            Contact contact = parser.readValueAs(JsonAdaptedContact.class).toModelType();
+            if (addressBook.hasContact(contact) || !contactIds.add(contact.getId())) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_CONTACT);
+            }
+            addressBook.addContact(contact);
+        }
+    }
+
+    /**
+     * Reads the meetings array that {@code parser} is positioned at into {@code meetings}.
+     */
+    private static void readMeetings(JsonParser parser, List<JsonAdaptedMeeting> meetings) throws IOException {
+        if (!enterArray(parser, FIELD_MEETINGS)) {
+            return;
+        }
+
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            meetings.add(parser.readValueAs(JsonAdaptedMeeting.class));
+        }
+    }
+
+    /**
+     * Returns true if {@code parser} is at the start of an array, or false if it is at a {@code null} value,
+     * which is treated as an empty array.
+     *
+     * @throws JsonParseException if the current value is neither.
+     */
+    private static boolean enterArray(JsonParser parser, String fieldName) throws JsonParseException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return false;
+        }
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, String.format(MESSAGE_NOT_AN_ARRAY, fieldName));
+        }
+        return true;
+    }
+
+}
@@ -3,6 +3,7 @@ package seedu.address.ui.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -11,20 +12,44 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * Data is read with {@link JsonAddressBookReader} and written with {@link JsonAddressBookWriter}, both of which
+ * stream the file rather than holding it whole in memory.
+ * Before each save, the previous file is kept as a backup, and reading falls back to the newest readable backup if
+ * the file itself cannot be loaded.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
+    public static final int DEFAULT_BACKUP_COUNT = 3;
+
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final boolean isPrettyPrinted;
+    private final int backupCount;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+    public JsonAddressBookStorage(Path filePath, boolean isPrettyPrinted) {
+        this(filePath, isPrettyPrinted, DEFAULT_BACKUP_COUNT);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} for {@code filePath}.
+     *
+     * @param isPrettyPrinted whether saved files are indented; turning this off gives smaller files that are
+     *     faster to write.
+     * @param backupCount the number of previous versions of the file to keep.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isPrettyPrinted, int backupCount) {
         this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
+        this.backupCount = backupCount;
     }
 
     public Path getAddressBookFilePath() {
@@ -38,21 +63,41 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}.
+     * If the file cannot be loaded, its newest backup that can be loaded is returned instead.
      *
      * @param filePath location of the data. Cannot be null.
-     * @throws DataLoadingException if loading the data from storage failed.
+     * @throws DataLoadingException if loading the data from storage failed, and from every backup too.
      */
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-            filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
+        logger.info("JSON file " + filePath + " found.");
+
+        try {
+            return Optional.of(readFile(filePath));
+        } catch (DataLoadingException e) {
+            for (Path backup : FileUtil.getBackupFiles(filePath, backupCount)) {
+                try {
+                    ReadOnlyAddressBook addressBook = readFile(backup);
+                    logger.warning("Loaded backup " + backup + " instead of " + filePath);
+                    return Optional.of(addressBook);
+                } catch (DataLoadingException backupException) {
+                    // Try the next older backup
+                }
+            }
+            throw e;
+        }
+    }
 
+    private static ReadOnlyAddressBook readFile(Path filePath) throws DataLoadingException {
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            return JsonAddressBookReader.read(filePath);
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -73,8 +118,8 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        FileUtil.rotateBackups(filePath, backupCount);
+        JsonAddressBookWriter.write(addressBook, filePath, isPrettyPrinted);
     }
 
 }
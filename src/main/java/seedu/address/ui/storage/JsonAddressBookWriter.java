@@ -0,0 +1,96 @@
+package seedu.address.ui.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.meeting.Meeting;
+
+/**
+ * Writes an AddressBook to a JSON file one entry at a time.
+ * Each contact and meeting is adapted and written straight to a buffered file stream, so the document is never
+ * built up in memory. The output has the same layout as {@link JsonSerializableAddressBook}.
+ * Files are replaced atomically through {@link FileUtil#writeAtomically}, so a failed write never leaves a
+ * partially written file behind.
+ */
+public class JsonAddressBookWriter {
+
+    private static final Logger logger = LogsCenter.getLogger(JsonAddressBookWriter.class);
+
+    /**
+     * Writes {@code addressBook} to {@code filePath}, replacing any existing contents.
+     *
+     * @param addressBook cannot be null.
+     * @param filePath cannot be null.
+     * @param isPrettyPrinted whether the output should be indented for human readers.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, Path filePath, boolean isPrettyPrinted)
+            throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        long startTime = System.nanoTime();
+        FileUtil.writeAtomically(filePath, out -> {
+            try (JsonGenerator generator = JsonUtil.createGenerator(out, isPrettyPrinted)) {
+                generator.writeStartObject();
+
+                generator.writeArrayFieldStart("contacts");
+                for (Contact contact : addressBook.getContactList()) {
+                    generator.writeObject(new JsonAdaptedContact(contact));
+                }
+                generator.writeEndArray();
+
+                generator.writeArrayFieldStart("meetings");
+                for (Meeting meeting : addressBook.getMeetingList()) {
+                    generator.writeObject(new JsonAdaptedMeeting(meeting));
+                }
+                generator.writeEndArray();
+
+                generator.writeEndObject();
+            }
+        });
+        logWrite(filePath, startTime);
+    }
+
+    /**
+     * Writes an already adapted {@code addressBook} to {@code filePath}, replacing any existing contents.
+     * Unlike {@link #write(ReadOnlyAddressBook, Path, boolean)}, this does not read the model, so it is safe to call
+     * from a thread other than the one modifying the model.
+     *
+     * @param addressBook cannot be null.
+     * @param filePath cannot be null.
+     * @param isPrettyPrinted whether the output should be indented for human readers.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    public static void write(JsonSerializableAddressBook addressBook, Path filePath, boolean isPrettyPrinted)
+            throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        long startTime = System.nanoTime();
+        FileUtil.writeAtomically(filePath, out -> {
+            try (JsonGenerator generator = JsonUtil.createGenerator(out, isPrettyPrinted)) {
+                generator.writeObject(addressBook);
+            }
+        });
+        logWrite(filePath, startTime);
+    }
+
+    private static void logWrite(Path filePath, long startTime) throws IOException {
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        logger.info("Wrote " + Files.size(filePath) + " bytes to " + filePath + " in " + elapsedMillis + " ms");
+    }
+
+}
@@ -1,7 +1,11 @@
 package seedu.address.ui.storage;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -59,17 +63,22 @@ public class JsonSerializableAddressBook {
      */
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
+        Map<Long, Contact> contactsById = new HashMap<>();
+        Map<String, Contact> contactsByName = new HashMap<>();
         for (JsonAdaptedContact jsonAdaptedContact : contacts) {
             Contact contact = jsonAdaptedContact.toModelType();
-            if (addressBook.hasContact(contact)) {
+            if (addressBook.hasContact(contact) || contactsById.containsKey(contact.getId())) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_CONTACT);
             }
             addressBook.addContact(contact);
+            contactsById.put(contact.getId(), contact);
+            contactsByName.put(contact.getNameString(), contact);
         }
 
+        Set<Long> meetingIds = new HashSet<>();
         for (JsonAdaptedMeeting jsonAdaptedMeeting : meetings) {
-            Meeting meeting = jsonAdaptedMeeting.toModelType();
-            if (addressBook.hasMeeting(meeting)) {
+            Meeting meeting = jsonAdaptedMeeting.toModelType(contactsById, contactsByName);
+            if (addressBook.hasMeeting(meeting) || !meetingIds.add(meeting.getId())) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_MEETING);
             }
             addressBook.addMeeting(meeting);
@@ -2,11 +2,13 @@ package seedu.address.ui.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBookChange;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
@@ -75,4 +77,23 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, List<AddressBookChange> changes)
+            throws IOException {
+        logger.fine("Attempting to write " + changes.size() + " change(s) to data file: "
+            + addressBookStorage.getAddressBookFilePath());
+        addressBookStorage.saveAddressBookChanges(addressBook, changes);
+    }
+
+    @Override
+    public void throwIfSaveFailed() throws IOException {
+        addressBookStorage.throwIfSaveFailed();
+    }
+
+    @Override
+    public void close() throws IOException {
+        logger.fine("Closing data file: " + addressBookStorage.getAddressBookFilePath());
+        addressBookStorage.close();
+    }
+
 }
@@ -1,13 +1,29 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +36,68 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_existingFile_replacesContentsWithoutTempFiles() throws Exception {
+        Path file = testFolder.resolve("nested").resolve("file.txt");
+        FileUtil.writeToFile(file, "old contents");
+        FileUtil.writeToFile(file, "new contents");
+
+        assertEquals("new contents", FileUtil.readFromFile(file));
+        try (Stream<Path> files = Files.list(file.getParent())) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void writeAtomically_writerFails_keepsOldContents() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old contents");
+
+        assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, out -> {
+            out.write("partial".getBytes());
+            throw new IOException("disk full");
+        }));
+        assertEquals("old contents", FileUtil.readFromFile(file));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void writeToFile_leftoverTempFile_replacedAndRemoved() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        Files.write(FileUtil.getTempFile(file), "contents of a crashed write".getBytes());
+        FileUtil.writeToFile(file, "new contents");
+
+        assertEquals("new contents", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getTempFile(file)));
+    }
+
+    @Test
+    public void writeToFile_existingFile_keepsPermissions() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old contents");
+        Assumptions.assumeTrue(Files.getFileAttributeView(file, PosixFileAttributeView.class) != null);
+        Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rw-r-----");
+        Files.setPosixFilePermissions(file, permissions);
+
+        FileUtil.writeToFile(file, "new contents");
+        assertEquals(permissions, Files.getPosixFilePermissions(file));
+    }
+
+    @Test
+    public void rotateBackups_keepsNewestBackups() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        for (String contents : Arrays.asList("first", "second", "third")) {
+            FileUtil.rotateBackups(file, 2);
+            FileUtil.writeToFile(file, contents);
+        }
+        FileUtil.rotateBackups(file, 2);
+
+        assertEquals(Arrays.asList(testFolder.resolve("file.txt.bak.1"), testFolder.resolve("file.txt.bak.2")),
+            FileUtil.getBackupFiles(file, 3));
+        assertEquals("third", FileUtil.readFromFile(testFolder.resolve("file.txt.bak.1")));
+        assertEquals("second", FileUtil.readFromFile(testFolder.resolve("file.txt.bak.2")));
+    }
+
 }
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_CONTACT_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
@@ -23,6 +25,7 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.DeleteContactCommand;
 import seedu.address.logic.commands.ListContactCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.metrics.CommandMetrics;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -72,6 +75,12 @@ public class LogicManagerTest {
             0), model);
     }
 
+    @Test
+    public void execute_validCommand_recordsMetrics() throws Exception {
+        logic.execute(ListContactCommand.COMMAND_WORD);
+        assertTrue(CommandMetrics.getInstance().getSummary().contains("ListContactCommand x"));
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
@@ -84,6 +93,45 @@ public class LogicManagerTest {
             LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_readOnlyCommandWithNoUnsavedChanges_doesNotSave() throws Exception {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(temporaryFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw DUMMY_IO_EXCEPTION;
+            }
+        };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+        model.markAddressBookSaved();
+
+        assertCommandSuccess(ListContactCommand.COMMAND_WORD, String.format(Messages.MESSAGE_CONTACTS_LISTED_OVERVIEW,
+            0), model);
+    }
+
+    @Test
+    public void execute_mutatingCommand_marksAddressBookSaved() throws Exception {
+        String addCommand = AddContactCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+            + EMAIL_DESC_AMY + NOTE_DESC_AMY;
+        logic.execute(addCommand);
+        assertFalse(model.hasUnsavedChanges());
+    }
+
+    @Test
+    public void execute_backgroundSaveFailed_throwsCommandException() {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(temporaryFolder.resolve("ab.json")) {
+            @Override
+            public void throwIfSaveFailed() throws IOException {
+                throw DUMMY_IO_EXCEPTION;
+            }
+        };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+
+        assertCommandException(ListContactCommand.COMMAND_WORD,
+            String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
+    }
+
     @Test
     public void getFilteredContactList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredContactList().remove(0));
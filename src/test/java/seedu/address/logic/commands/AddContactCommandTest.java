@@ -10,6 +10,7 @@ import static seedu.address.testutil.TypicalAddressBook.ALICE;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -19,6 +20,7 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -180,6 +182,11 @@ public class AddContactCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void rankFilteredContactList(Predicate<Contact> predicate, String query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Meeting> getFilteredMeetingList() {
             throw new AssertionError("This method should not be called.");
@@ -191,17 +198,27 @@ public class AddContactCommandTest {
         }
 
         @Override
-        public void sortContacts() {
+        public void rankFilteredMeetingList(Predicate<Meeting> predicate, String query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Meeting> getMeetingsOf(Contact contact) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasUnsavedChanges() {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void sortMeetings() {
+        public List<AddressBookChange> getUnsavedChanges() {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void update(Meeting meeting, Contact contact) {
+        public void markAddressBookSaved() {
             throw new AssertionError("This method should not be called.");
         }
     }
@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -15,6 +16,7 @@ import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBookChange;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -169,6 +171,11 @@ public class AddMeetingCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void rankFilteredContactList(Predicate<Contact> predicate, String query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Meeting> getFilteredMeetingList() {
             throw new AssertionError("This method should not be called.");
@@ -180,17 +187,27 @@ public class AddMeetingCommandTest {
         }
 
         @Override
-        public void sortContacts() {
+        public void rankFilteredMeetingList(Predicate<Meeting> predicate, String query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Meeting> getMeetingsOf(Contact contact) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasUnsavedChanges() {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void sortMeetings() {
+        public List<AddressBookChange> getUnsavedChanges() {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void update(Meeting meeting, Contact contact) {
+        public void markAddressBookSaved() {
             throw new AssertionError("This method should not be called.");
         }
     }
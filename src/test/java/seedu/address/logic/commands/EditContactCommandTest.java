@@ -34,6 +34,19 @@ public class EditContactCommandTest {
 
     private Model model = new ModelManager(getTypicalContactsAddressBook(), new UserPrefs());
 
+    @Test
+    public void execute_nameEdited_keepsContactId() throws Exception {
+        Contact contactToEdit = model.getFilteredContactList().get(INDEX_FIRST.getZeroBased());
+        EditContactDescriptor descriptor = new EditContactDescriptorBuilder().withName(VALID_NAME_BOB).build();
+        new EditContactCommand(INDEX_FIRST, descriptor).execute(model);
+
+        Contact editedContact = model.getAddressBook().getContactList().stream()
+                .filter(contact -> contact.getNameString().equals(VALID_NAME_BOB))
+                .findFirst()
+                .get();
+        assertEquals(contactToEdit.getId(), editedContact.getId());
+    }
+
     @Test
     public void execute_allFieldsSpecifiedUnfilteredList_success() {
         Contact editedContact = new ContactBuilder().build();
@@ -68,7 +81,6 @@ public class EditContactCommandTest {
 
         Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
         expectedModel.setContact(lastContact, editedContact);
-        expectedModel.sortContacts();
         CommandResult expectedCommandResult = new CommandResult(expectedMessage, false, false);
 
         assertCommandSuccess(editContactCommand, model, expectedCommandResult, expectedModel);
@@ -104,7 +116,6 @@ public class EditContactCommandTest {
 
         Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
         expectedModel.setContact(model.getFilteredContactList().get(0), editedContact);
-        expectedModel.sortContacts();
         CommandResult expectedCommandResult = new CommandResult(expectedMessage, false, false);
 
         assertCommandSuccess(editContactCommand, model, expectedCommandResult, expectedModel);
@@ -1,8 +1,10 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.logic.Messages.MESSAGE_CONTACTS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.CommandTestUtil.showContactAtIndex;
+import static seedu.address.testutil.TypicalAddressBook.ALICE;
 import static seedu.address.testutil.TypicalAddressBook.getTypicalContactsAddressBook;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
 
@@ -43,4 +45,10 @@ public class ListContactCommandTest {
         showContactAtIndex(model, INDEX_FIRST);
         assertCommandSuccess(actualCommand, model, expectedCommandResult, expectedModel);
     }
+
+    @Test
+    public void execute_misspeltQuery_showsMostSimilarFirst() throws ParseException {
+        new ListContactCommandParser().parse("list q/Alise Polin").execute(model);
+        assertEquals(ALICE, model.getFilteredContactList().get(0));
+    }
 }
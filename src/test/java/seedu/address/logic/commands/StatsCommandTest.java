@@ -0,0 +1,24 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class StatsCommandTest {
+    private Model model = new ModelManager();
+
+    @Test
+    public void execute_commandRecorded_showsIt() {
+        CommandMetrics.Sample sample = CommandMetrics.getInstance().start();
+        sample.endStage(CommandMetrics.Stage.PARSE);
+        CommandMetrics.getInstance().record("StatsCommandTestCommand", sample);
+
+        String feedback = new StatsCommand().execute(model).getFeedbackToUser();
+        assertTrue(feedback.startsWith(String.format(StatsCommand.MESSAGE_SUCCESS, "")));
+        assertTrue(feedback.contains("StatsCommandTestCommand x1: parse p50="));
+    }
+}
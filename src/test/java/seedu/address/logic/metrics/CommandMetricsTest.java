@@ -0,0 +1,48 @@
+package seedu.address.logic.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.metrics.CommandMetrics.Stage;
+
+public class CommandMetricsTest {
+
+    private final CommandMetrics metrics = new CommandMetrics();
+
+    @Test
+    public void getInstance_calledTwice_returnsSameMetrics() {
+        assertSame(CommandMetrics.getInstance(), CommandMetrics.getInstance());
+    }
+
+    @Test
+    public void getSummary_nothingRecorded_saysSo() {
+        assertEquals("No commands recorded yet.", metrics.getSummary());
+    }
+
+    @Test
+    public void getSummary_commandsRecorded_lineForEachCommand() {
+        for (int i = 0; i < 2; i++) {
+            CommandMetrics.Sample sample = metrics.start();
+            sample.endStage(Stage.PARSE);
+            sample.endStage(Stage.EXECUTE);
+            sample.endStage(Stage.SAVE);
+            metrics.record("ListContactCommand", sample);
+        }
+        CommandMetrics.Sample failedSample = metrics.start();
+        failedSample.endStage(Stage.PARSE);
+        metrics.record(CommandMetrics.UNPARSED_COMMAND, failedSample);
+
+        String[] lines = metrics.getSummary().split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith(CommandMetrics.UNPARSED_COMMAND + " x1: parse p50="));
+        assertFalse(lines[0].contains("execute"));
+        assertTrue(lines[1].startsWith("ListContactCommand x2: parse p50="));
+        assertTrue(lines[1].contains(" execute p50="));
+        assertTrue(lines[1].contains(" save p50="));
+    }
+
+}
@@ -0,0 +1,59 @@
+package seedu.address.logic.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class HistogramTest {
+
+    private final Histogram histogram = new Histogram();
+
+    @Test
+    public void record_negativeValue_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> histogram.record(-1));
+    }
+
+    @Test
+    public void getValueAtPercentile_invalidPercentile_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(101));
+    }
+
+    @Test
+    public void getValueAtPercentile_nothingRecorded_returnsZero() {
+        assertEquals(0, histogram.getValueAtPercentile(50));
+    }
+
+    @Test
+    public void getValueAtPercentile_smallValues_exact() {
+        for (int value = 1; value <= 10; value++) {
+            histogram.record(value);
+        }
+        assertEquals(5, histogram.getValueAtPercentile(50));
+        assertEquals(10, histogram.getValueAtPercentile(99));
+        assertEquals(10, histogram.getTotalCount());
+    }
+
+    @Test
+    public void getValueAtPercentile_largeValues_withinThreePercent() {
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value * 1_000);
+        }
+        assertWithinThreePercent(50_000_000, histogram.getValueAtPercentile(50));
+        assertWithinThreePercent(99_000_000, histogram.getValueAtPercentile(99));
+        assertEquals(100_000_000, histogram.getValueAtPercentile(100));
+        assertEquals(100_000_000, histogram.getMax());
+    }
+
+    @Test
+    public void getValueAtPercentile_largestValue_returnsIt() {
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, histogram.getValueAtPercentile(50));
+    }
+
+    private static void assertWithinThreePercent(long expected, long actual) {
+        assertTrue(Math.abs(actual - expected) <= expected * 0.03, "Expected about " + expected + " but was " + actual);
+    }
+
+}
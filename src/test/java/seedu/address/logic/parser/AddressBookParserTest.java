@@ -2,6 +2,7 @@ package seedu.address.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_AMBIGUOUS_COMMAND;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -22,6 +23,7 @@ import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListContactCommand;
 import seedu.address.logic.commands.ModeCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.ViewContactCommand;
 import seedu.address.logic.commands.ViewMeetingCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -135,6 +137,11 @@ public class AddressBookParserTest {
                 ExitCommand.COMMAND_WORD + " " + CliSyntax.PREFIX_INDEX + " 3") instanceof ExitCommand);
     }
 
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD) instanceof StatsCommand);
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
@@ -168,6 +175,28 @@ public class AddressBookParserTest {
             -> parser.parseCommand("unknownCommand"));
     }
 
+    @Test
+    public void parseCommand_abbreviatedCommandWord() throws Exception {
+        setModeToContacts();
+        assertTrue(parser.parseCommand("li") instanceof ListContactCommand);
+        assertEquals(new DeleteContactCommand(INDEX_FIRST),
+            parser.parseCommand("delete " + INDEX_FIRST.getOneBased()));
+        assertTrue(parser.parseCommand("st") instanceof StatsCommand);
+    }
+
+    @Test
+    public void parseCommand_ambiguousAbbreviation_throwsParseException() {
+        setModeToContacts();
+        assertThrows(ParseException.class, String.format(MESSAGE_AMBIGUOUS_COMMAND, "dele", "delete, deletenote"), ()
+            -> parser.parseCommand("dele 1"));
+    }
+
+    @Test
+    public void parseCommand_abbreviatedClear_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_UNKNOWN_COMMAND, "cl"), ()
+            -> parser.parseCommand("cl"));
+    }
+
     @Test
     public void parseCommand_wrongMode_throwsParseException() {
         setModeToContacts();
@@ -136,6 +136,32 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixesSharingBeginning_longestPrefixMatched() {
+        Prefix note = new Prefix("note/");
+        Prefix noteId = new Prefix("noteid/");
+        String argsString = "1 noteid/ 3 note/ noteid/ in value note/ last";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, note, noteId);
+        assertPreamblePresent(argMultimap, "1");
+        assertArgumentPresent(argMultimap, noteId, "3", "in value");
+        assertArgumentPresent(argMultimap, note, "", "last");
+
+        // order in which the prefixes are given does not matter
+        argMultimap = ArgumentTokenizer.tokenize(argsString, noteId, note);
+        assertArgumentPresent(argMultimap, noteId, "3", "in value");
+        assertArgumentPresent(argMultimap, note, "", "last");
+    }
+
+    @Test
+    public void tokenize_prefixAtStartOrWithoutLeadingSpace_takenAsValue() {
+        String argsString = "p/start\tp/tabbed -tvalue  ^Q";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, dashT, hatQ);
+        assertPreamblePresent(argMultimap, "p/start\tp/tabbed");
+        assertArgumentAbsent(argMultimap, pSlash);
+        assertArgumentPresent(argMultimap, dashT, "value");
+        assertArgumentPresent(argMultimap, hatQ, "");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
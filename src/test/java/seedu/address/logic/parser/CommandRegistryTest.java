@@ -0,0 +1,64 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.ui.AppState.ModeType;
+
+public class CommandRegistryTest {
+
+    private final Parser<HelpCommand> helpParser = arguments -> new HelpCommand();
+    private final Parser<ClearCommand> clearParser = arguments -> new ClearCommand();
+
+    @Test
+    public void register_sameWordTwice_throwsIllegalArgumentException() {
+        CommandRegistry.Builder builder = new CommandRegistry.Builder().register("help", helpParser);
+        assertThrows(IllegalArgumentException.class, () -> builder.register(ModeType.CONTACTS, "help", helpParser));
+    }
+
+    @Test
+    public void resolve_wordInOtherMode_returnsEmpty() {
+        CommandRegistry registry = new CommandRegistry.Builder()
+            .register(ModeType.MEETINGS, "help", helpParser)
+            .build();
+        assertEquals(Optional.empty(), registry.resolve(ModeType.CONTACTS, "help"));
+        assertEquals(Optional.of("help"), registry.resolve(ModeType.MEETINGS, "he"));
+        assertSame(helpParser, registry.getParser(ModeType.MEETINGS, "help").get());
+    }
+
+    @Test
+    public void resolve_registeredInFull_notAbbreviated() {
+        CommandRegistry registry = new CommandRegistry.Builder()
+            .registerInFull("clear", clearParser)
+            .build();
+        assertEquals(Optional.of("clear"), registry.resolve(ModeType.CONTACTS, "clear"));
+        assertEquals(Optional.empty(), registry.resolve(ModeType.CONTACTS, "cl"));
+        assertEquals(List.of(), registry.getCompletions(ModeType.CONTACTS, "cl"));
+    }
+
+    @Test
+    public void build_builderReused_registryUnchanged() {
+        CommandRegistry.Builder builder = new CommandRegistry.Builder().register("help", helpParser);
+        CommandRegistry registry = builder.build();
+        builder.register("hello", helpParser);
+        assertEquals(Optional.of("help"), registry.resolve(ModeType.CONTACTS, "he"));
+    }
+
+    @Test
+    public void getDefault_everyModeHasGlobalCommands() {
+        for (ModeType mode : ModeType.values()) {
+            assertTrue(CommandRegistry.getDefault().getParser(mode, HelpCommand.COMMAND_WORD).isPresent());
+            assertTrue(CommandRegistry.getDefault().getParser(mode, ClearCommand.COMMAND_WORD).isPresent());
+        }
+    }
+
+}
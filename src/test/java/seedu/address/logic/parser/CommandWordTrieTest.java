@@ -0,0 +1,57 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class CommandWordTrieTest {
+
+    private final CommandWordTrie trie = new CommandWordTrie();
+
+    @BeforeEach
+    public void setUp() {
+        trie.add("add");
+        trie.add("addnote");
+        trie.add("delete");
+        trie.add("deletenote");
+        trie.add("list");
+    }
+
+    @Test
+    public void resolve_fullWord_returnsWord() {
+        assertEquals(Optional.of("add"), trie.resolve("add"));
+        assertEquals(Optional.of("deletenote"), trie.resolve("deletenote"));
+    }
+
+    @Test
+    public void resolve_uniquePrefix_returnsWord() {
+        assertEquals(Optional.of("list"), trie.resolve("l"));
+        assertEquals(Optional.of("addnote"), trie.resolve("addn"));
+    }
+
+    @Test
+    public void resolve_ambiguousOrUnknownPrefix_returnsEmpty() {
+        assertEquals(Optional.empty(), trie.resolve("de"));
+        assertEquals(Optional.empty(), trie.resolve(""));
+        assertEquals(Optional.empty(), trie.resolve("x"));
+        assertEquals(Optional.empty(), trie.resolve("lists"));
+    }
+
+    @Test
+    public void add_sameWordTwice_countedOnce() {
+        trie.add("list");
+        assertEquals(Optional.of("list"), trie.resolve("li"));
+    }
+
+    @Test
+    public void getCompletions_prefix_returnsWordsInOrder() {
+        assertEquals(List.of("delete", "deletenote"), trie.getCompletions("del"));
+        assertEquals(List.of("add", "addnote", "delete", "deletenote", "list"), trie.getCompletions(""));
+        assertEquals(List.of(), trie.getCompletions("x"));
+    }
+
+}
@@ -22,6 +22,7 @@ import seedu.address.model.contact.Contact;
 import seedu.address.model.contact.exceptions.DuplicateContactException;
 import seedu.address.model.meeting.Meeting;
 import seedu.address.testutil.ContactBuilder;
+import seedu.address.testutil.MeetingBuilder;
 
 public class AddressBookTest {
 
@@ -54,6 +55,55 @@ public class AddressBookTest {
         assertThrows(DuplicateContactException.class, () -> addressBook.resetData(newData));
     }
 
+    @Test
+    public void getChanges_newAddressBook_noChanges() {
+        assertFalse(addressBook.hasChanges());
+        assertEquals(Collections.emptyList(), addressBook.getChanges());
+    }
+
+    @Test
+    public void getChanges_afterModifications_recordsChangesInOrder() {
+        Contact editedAlice = new ContactBuilder(ALICE).withPhone("99999999").build();
+        addressBook.addContact(ALICE);
+        addressBook.setContact(ALICE, editedAlice);
+        addressBook.addMeeting(CS2103);
+        addressBook.removeContact(editedAlice);
+
+        List<AddressBookChange> expectedChanges = Arrays.asList(
+            AddressBookChange.contactAdded(ALICE),
+            AddressBookChange.contactEdited(ALICE, editedAlice),
+            AddressBookChange.meetingAdded(CS2103),
+            AddressBookChange.contactRemoved(editedAlice));
+        assertTrue(addressBook.hasChanges());
+        assertEquals(expectedChanges, addressBook.getChanges());
+    }
+
+    @Test
+    public void getChanges_afterResetData_onlyReset() {
+        addressBook.addContact(ALICE);
+        addressBook.resetData(getTypicalAddressBook());
+        assertEquals(Collections.singletonList(AddressBookChange.reset()), addressBook.getChanges());
+    }
+
+    @Test
+    public void getChanges_modifiedWhileNotRecording_noChanges() {
+        addressBook.setRecordingChanges(false);
+        addressBook.addContact(ALICE);
+        addressBook.resetData(getTypicalAddressBook());
+        assertFalse(addressBook.hasChanges());
+
+        addressBook.setRecordingChanges(true);
+        addressBook.removeContact(ALICE);
+        assertEquals(Collections.singletonList(AddressBookChange.contactRemoved(ALICE)), addressBook.getChanges());
+    }
+
+    @Test
+    public void clearChanges_afterModifications_noChanges() {
+        addressBook.addContact(ALICE);
+        addressBook.clearChanges();
+        assertFalse(addressBook.hasChanges());
+    }
+
     @Test
     public void hasContact_nullContact_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasContact(null));
@@ -102,6 +152,60 @@ public class AddressBookTest {
         assertFalse(addressBook.hasMeeting(CS2103));
     }
 
+    @Test
+    public void getMeetingsOf_linkedContact_returnsItsMeetings() {
+        Contact alice = new ContactBuilder(ALICE).build();
+        Meeting meeting = new MeetingBuilder(CS2103).withContacts(alice).build();
+        Meeting otherMeeting = new MeetingBuilder().build();
+        addressBook.addContact(alice);
+        addressBook.addMeeting(meeting);
+        addressBook.addMeeting(otherMeeting);
+        assertEquals(Collections.singletonList(meeting), addressBook.getMeetingsOf(alice));
+
+        addressBook.removeMeeting(meeting);
+        assertTrue(addressBook.getMeetingsOf(alice).isEmpty());
+    }
+
+    @Test
+    public void removeContact_linkedContact_removesContactFromMeetings() {
+        Contact alice = new ContactBuilder(ALICE).build();
+        Meeting meeting = new MeetingBuilder(CS2103).withContacts(alice).build();
+        addressBook.addContact(alice);
+        addressBook.addMeeting(meeting);
+
+        addressBook.removeContact(alice);
+        Meeting updatedMeeting = addressBook.getMeetingList().get(0);
+        assertEquals(meeting.getId(), updatedMeeting.getId());
+        assertTrue(updatedMeeting.getContacts().isEmpty());
+        assertTrue(addressBook.getMeetingsOf(alice).isEmpty());
+    }
+
+    @Test
+    public void setContact_linkedContact_replacesContactInMeetings() {
+        Contact alice = new ContactBuilder(ALICE).build();
+        Meeting meeting = new MeetingBuilder(CS2103).withContacts(alice).build();
+        addressBook.addContact(alice);
+        addressBook.addMeeting(meeting);
+
+        Contact renamedAlice = new ContactBuilder(alice).withId(alice.getId()).withName("Alicia Pauline").build();
+        addressBook.setContact(alice, renamedAlice);
+        Meeting updatedMeeting = addressBook.getMeetingList().get(0);
+        assertEquals(Collections.singletonList(renamedAlice), updatedMeeting.getContacts());
+        assertEquals(Collections.singletonList(updatedMeeting), addressBook.getMeetingsOf(renamedAlice));
+    }
+
+    @Test
+    public void resetData_meetingsWithContacts_rebuildsLinks() {
+        Contact alice = new ContactBuilder(ALICE).build();
+        Meeting meeting = new MeetingBuilder(CS2103).withContacts(alice).build();
+        AddressBook source = new AddressBook();
+        source.addContact(alice);
+        source.addMeeting(meeting);
+
+        addressBook.resetData(source);
+        assertEquals(Collections.singletonList(meeting), addressBook.getMeetingsOf(alice));
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose contacts list can violate interface constraints.
      */
@@ -15,9 +15,13 @@ import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.ContactFilterPredicate;
 import seedu.address.model.contact.NameContainsKeywordsPredicate;
 import seedu.address.model.meeting.Meeting;
+import seedu.address.model.search.KeywordMatcher;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.ContactBuilder;
 import seedu.address.testutil.MeetingBuilder;
 
 public class ModelManagerTest {
@@ -95,6 +99,19 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredContactList().remove(0));
     }
 
+    @Test
+    public void updateFilteredContactList_contactEditedToMatch_showsContact() {
+        modelManager.addContact(ALICE);
+        modelManager.addContact(BENSON);
+        modelManager.updateFilteredContactList(new ContactFilterPredicate(
+            KeywordMatcher.compile(Arrays.asList("Meier")), "", "", KeywordMatcher.compile(Arrays.asList(""))));
+        assertEquals(Arrays.asList(BENSON), modelManager.getFilteredContactList());
+
+        Contact editedAlice = new ContactBuilder(ALICE).withId(ALICE.getId()).withName("Alice Meier").build();
+        modelManager.setContact(ALICE, editedAlice);
+        assertEquals(Arrays.asList(editedAlice, BENSON), modelManager.getFilteredContactList());
+    }
+
     @Test
     public void hasMeeting_personInNoteNote_returnsTrue() {
         Meeting meeting = new MeetingBuilder().build();
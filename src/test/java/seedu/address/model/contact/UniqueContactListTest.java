@@ -2,10 +2,13 @@ package seedu.address.model.contact;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalAddressBook.ALICE;
 import static seedu.address.testutil.TypicalAddressBook.BOB;
+import static seedu.address.testutil.TypicalAddressBook.CARL;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -55,6 +58,23 @@ public class UniqueContactListTest {
         assertThrows(DuplicateContactException.class, () -> uniqueContactList.add(ALICE));
     }
 
+    @Test
+    public void add_outOfOrder_keepsListSorted() {
+        uniqueContactList.add(CARL);
+        uniqueContactList.add(ALICE);
+        uniqueContactList.add(BOB);
+        assertEquals(Arrays.asList(ALICE, BOB, CARL), uniqueContactList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setContact_editedContactChangesOrder_movesContact() {
+        uniqueContactList.add(ALICE);
+        uniqueContactList.add(BOB);
+        Contact renamedAlice = new ContactBuilder(ALICE).withName("Zoe Tan").build();
+        uniqueContactList.setContact(ALICE, renamedAlice);
+        assertEquals(Arrays.asList(BOB, renamedAlice), uniqueContactList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setContact_nullTargetContact_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueContactList.setContact(null, ALICE));
@@ -123,6 +143,55 @@ public class UniqueContactListTest {
         assertEquals(expectedUniqueContactList, uniqueContactList);
     }
 
+    @Test
+    public void remove_contactWithSameIdentityButDifferentFields_throwsContactNotFoundException() {
+        uniqueContactList.add(ALICE);
+        Contact editedAlice = new ContactBuilder(ALICE).withPhone("99999999").build();
+        assertThrows(ContactNotFoundException.class, () -> uniqueContactList.remove(editedAlice));
+        assertTrue(uniqueContactList.contains(ALICE));
+    }
+
+    @Test
+    public void remove_outdatedContactWithSameId_removesCurrentContact() {
+        uniqueContactList.add(ALICE);
+        Contact editedAlice = new ContactBuilder(ALICE).withId(ALICE.getId()).withName(VALID_NAME_BOB).build();
+        uniqueContactList.setContact(ALICE, editedAlice);
+        uniqueContactList.remove(ALICE);
+        assertEquals(new UniqueContactList(), uniqueContactList);
+    }
+
+    @Test
+    public void add_contactWithExistingId_throwsDuplicateContactException() {
+        uniqueContactList.add(ALICE);
+        Contact otherContact = new ContactBuilder(BOB).withId(ALICE.getId()).build();
+        assertThrows(DuplicateContactException.class, () -> uniqueContactList.add(otherContact));
+    }
+
+    @Test
+    public void getById() {
+        uniqueContactList.add(ALICE);
+        assertSame(ALICE, uniqueContactList.getById(ALICE.getId()).get());
+        assertFalse(uniqueContactList.getById(BOB.getId()).isPresent());
+    }
+
+    @Test
+    public void contains_afterIdentityChangingEdit_tracksNewIdentity() {
+        uniqueContactList.add(ALICE);
+        uniqueContactList.setContact(ALICE, BOB);
+        assertFalse(uniqueContactList.contains(ALICE));
+        assertTrue(uniqueContactList.contains(BOB));
+        uniqueContactList.add(ALICE);
+        assertTrue(uniqueContactList.contains(ALICE));
+    }
+
+    @Test
+    public void contains_afterSetContacts_reflectsReplacement() {
+        uniqueContactList.add(ALICE);
+        uniqueContactList.setContacts(Collections.singletonList(BOB));
+        assertFalse(uniqueContactList.contains(ALICE));
+        assertTrue(uniqueContactList.contains(BOB));
+    }
+
     @Test
     public void setContacts_nullUniqueContactList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueContactList.setContacts((UniqueContactList) null));
@@ -152,12 +221,27 @@ public class UniqueContactListTest {
         assertEquals(expectedUniqueContactList, uniqueContactList);
     }
 
+    @Test
+    public void setContacts_unsortedList_sortsContacts() {
+        uniqueContactList.setContacts(Arrays.asList(CARL, ALICE, BOB));
+        assertEquals(Arrays.asList(ALICE, BOB, CARL), uniqueContactList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setContacts_listWithDuplicateContacts_throwsDuplicateContactException() {
         List<Contact> listWithDuplicateContacts = Arrays.asList(ALICE, ALICE);
         assertThrows(DuplicateContactException.class, () -> uniqueContactList.setContacts(listWithDuplicateContacts));
     }
 
+    @Test
+    public void setContacts_listWithSeveralDuplicateGroups_reportsEveryGroup() {
+        List<Contact> listWithDuplicateContacts = Arrays.asList(ALICE, BOB, CARL, ALICE, BOB, BOB);
+        String expectedMessage = new DuplicateContactException(
+                Arrays.asList(ALICE.getName() + " (x2)", BOB.getName() + " (x3)")).getMessage();
+        assertThrows(DuplicateContactException.class, expectedMessage, ()
+                -> uniqueContactList.setContacts(listWithDuplicateContacts));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,60 @@
+package seedu.address.model.meeting;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.search.KeywordMatcher;
+import seedu.address.testutil.MeetingBuilder;
+
+public class MeetingFilterPredicateTest {
+
+    private static final KeywordMatcher ANY = KeywordMatcher.compile(Collections.singletonList(""));
+
+    @Test
+    public void equals() {
+        MeetingFilterPredicate firstPredicate = timeFilter("01/10/2023 10:00", null);
+        MeetingFilterPredicate secondPredicate = timeFilter(null, "01/10/2023 10:00");
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(timeFilter("01/10/2023 10:00", null)));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different bounds -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_timeWithinBounds_returnsTrue() {
+        Meeting meeting = new MeetingBuilder().withTime("03/10/2023 19:00").build();
+        assertTrue(timeFilter(null, null).test(meeting));
+        assertTrue(timeFilter("03/10/2023 19:00", null).test(meeting));
+        assertTrue(timeFilter(null, "03/10/2023 19:00").test(meeting));
+        assertTrue(timeFilter("01/10/2023 00:00", "31/10/2023 23:59").test(meeting));
+    }
+
+    @Test
+    public void test_timeOutsideBounds_returnsFalse() {
+        Meeting meeting = new MeetingBuilder().withTime("03/10/2023 19:00").build();
+        assertFalse(timeFilter("03/10/2023 19:01", null).test(meeting));
+        assertFalse(timeFilter(null, "03/10/2023 18:59").test(meeting));
+        assertFalse(timeFilter("04/10/2023 00:00", "02/10/2023 00:00").test(meeting));
+    }
+
+    private static MeetingFilterPredicate timeFilter(String timeStart, String timeEnd) {
+        return new MeetingFilterPredicate(ANY, timeStart == null ? null : new Time(timeStart),
+            timeEnd == null ? null : new Time(timeEnd), ANY, ANY, ANY);
+    }
+
+}
@@ -5,6 +5,9 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Arrays;
+import java.util.Collections;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -32,6 +35,39 @@ public class UniqueMeetingListTest {
         assertThrows(DuplicateMeetingException.class, () -> meetingList.add(meeting));
     }
 
+    @Test
+    public void add_outOfOrder_keepsChronologicalOrder() {
+        Meeting late = new MeetingBuilder().withTitle("Late").withTime("03/03/2024 10:00").build();
+        Meeting early = new MeetingBuilder().withTitle("Early").withTime("01/01/2024 10:00").build();
+        Meeting middle = new MeetingBuilder().withTitle("Middle").withTime("02/02/2024 10:00").build();
+        meetingList.add(late);
+        meetingList.add(early);
+        meetingList.add(middle);
+        assertEquals(Arrays.asList(early, middle, late), meetingList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setMeeting_editedMeetingChangesTime_movesMeeting() {
+        Meeting early = new MeetingBuilder().withTitle("Early").withTime("01/01/2024 10:00").build();
+        Meeting late = new MeetingBuilder().withTitle("Late").withTime("03/03/2024 10:00").build();
+        meetingList.add(early);
+        meetingList.add(late);
+        Meeting postponed = new MeetingBuilder(early).withTime("04/04/2024 10:00").build();
+        meetingList.setMeeting(early, postponed);
+        assertEquals(Arrays.asList(late, postponed), meetingList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setMeeting_outdatedMeetingWithSameId_replacesCurrentMeeting() {
+        Meeting meeting = new MeetingBuilder().build();
+        meetingList.add(meeting);
+        Meeting renamed = new MeetingBuilder(meeting).withId(meeting.getId()).withTitle("Renamed").build();
+        meetingList.setMeeting(meeting, renamed);
+        Meeting moved = new MeetingBuilder(renamed).withId(meeting.getId()).withPlace("COM1").build();
+        meetingList.setMeeting(meeting, moved);
+        assertEquals(Collections.singletonList(moved), meetingList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void contains_nullMeeting_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> meetingList.contains(null));
@@ -50,6 +86,16 @@ public class UniqueMeetingListTest {
         assertTrue(meetingList.contains(meeting));
     }
 
+    @Test
+    public void setMeetings_listWithDuplicateMeetings_reportsEveryGroup() {
+        Meeting first = new MeetingBuilder().withTitle("Standup").build();
+        Meeting second = new MeetingBuilder().withTitle("Retro").build();
+        String expectedMessage = new DuplicateMeetingException(
+            Arrays.asList("Standup (x2)", "Retro (x2)")).getMessage();
+        assertThrows(DuplicateMeetingException.class, expectedMessage, ()
+            -> meetingList.setMeetings(Arrays.asList(first, second, first, second)));
+    }
+
     @Test
     public void toStringMethod() {
         assertEquals(meetingList.asUnmodifiableObservableList().toString(), meetingList.toString());
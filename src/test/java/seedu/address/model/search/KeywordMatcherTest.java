@@ -0,0 +1,48 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.note.Note;
+
+public class KeywordMatcherTest {
+
+    @Test
+    public void matches_lowerCaseText_ignoresKeywordCase() {
+        KeywordMatcher matcher = KeywordMatcher.compile(Arrays.asList("ALEX", "Yu"));
+        assertTrue(matcher.matches("alex yeoh"));
+        assertTrue(matcher.matches("bernice yu"));
+        assertFalse(matcher.matches("charlotte oliveiro"));
+    }
+
+    @Test
+    public void matches_emptyKeyword_matchesEverything() {
+        KeywordMatcher matcher = KeywordMatcher.compile(Arrays.asList("", "alex"));
+        assertTrue(matcher.isUnconstrained());
+        assertTrue(matcher.matches("bernice yu"));
+        assertTrue(matcher.matchesAny(Collections.emptyList()));
+    }
+
+    @Test
+    public void matchesAny_notes_matchesAnyNote() {
+        KeywordMatcher matcher = KeywordMatcher.compile(Arrays.asList("coffee"));
+        assertTrue(matcher.matchesAny(Arrays.asList(new Note("Tea"), new Note("Likes Coffee"))));
+        assertFalse(matcher.matchesAny(Collections.singletonList(new Note("Tea"))));
+        assertFalse(matcher.matchesAny(Collections.emptyList()));
+    }
+
+    @Test
+    public void equals() {
+        KeywordMatcher matcher = KeywordMatcher.compile(Arrays.asList("alex"));
+        assertEquals(matcher, KeywordMatcher.compile(Arrays.asList("alex")));
+        assertFalse(matcher.equals(KeywordMatcher.compile(Arrays.asList("ALEX"))));
+        assertFalse(matcher.equals(null));
+    }
+
+}
@@ -0,0 +1,42 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class RangeIndexTest {
+
+    private final RangeIndex index = new RangeIndex();
+
+    @Test
+    public void candidates_range_includesBothEnds() {
+        index.add(1, 10);
+        index.add(2, 20);
+        index.add(3, 30);
+        index.add(4, 20);
+        assertEquals(Set.of(2L, 3L, 4L), index.candidates(20, 30));
+        assertEquals(Set.of(1L), index.candidates(Long.MIN_VALUE, 15));
+        assertTrue(index.candidates(21, 29).isEmpty());
+    }
+
+    @Test
+    public void candidates_emptyRange_returnsEmptySet() {
+        index.add(1, 10);
+        assertTrue(index.candidates(11, 10).isEmpty());
+    }
+
+    @Test
+    public void remove_indexedId_noLongerCandidate() {
+        index.add(1, 10);
+        index.add(2, 10);
+        index.remove(1, 10);
+        assertEquals(Collections.singleton(2L), index.candidates(10, 10));
+        index.remove(2, 10);
+        assertTrue(index.candidates(Long.MIN_VALUE, Long.MAX_VALUE).isEmpty());
+    }
+
+}
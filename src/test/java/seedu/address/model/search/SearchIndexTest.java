@@ -0,0 +1,175 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.ContactField;
+import seedu.address.model.contact.ContactFilterPredicate;
+import seedu.address.model.meeting.Meeting;
+import seedu.address.model.meeting.MeetingField;
+import seedu.address.model.meeting.MeetingFilterPredicate;
+import seedu.address.model.meeting.Time;
+import seedu.address.testutil.ContactBuilder;
+import seedu.address.testutil.MeetingBuilder;
+
+public class SearchIndexTest {
+
+    private static final KeywordMatcher ANY = keywords("");
+
+    private final List<Contact> contacts = new ArrayList<>();
+    private final SearchIndex<Contact, ContactField> index =
+        new SearchIndex<>(ContactField.class, Contact::getId, contacts);
+
+    private final Contact alex = new ContactBuilder().withName("Alex Yeoh").withEmail("alexyeoh@example.com")
+        .withNotes("Likes coffee").build();
+    private final Contact bernice = new ContactBuilder().withName("Bernice Yu").withEmail("berniceyu@example.com")
+        .build();
+    private final Contact charlotte = new ContactBuilder().withName("Charlotte Oliveiro")
+        .withEmail("charlotte@example.com").withNotes("Coffee after lunch").build();
+
+    @Test
+    public void filter_keywordFilters_matchesPlainFilter() {
+        addAll(alex, bernice, charlotte);
+        assertSameMatches(new ContactFilterPredicate(keywords("yeoh", "oliv"), "", "", ANY));
+        assertSameMatches(new ContactFilterPredicate(ANY, "", "", keywords("COFFEE")));
+        assertSameMatches(new ContactFilterPredicate(ANY, "", "yu@", ANY));
+        assertSameMatches(new ContactFilterPredicate(keywords("a"), "", "", keywords("lunch")));
+        assertSameMatches(new ContactFilterPredicate(keywords("zzz"), "", "", ANY));
+    }
+
+    @Test
+    public void filter_entriesChangedAfterFiltering_staysEquivalent() {
+        addAll(alex, bernice);
+        ContactFilterPredicate plainFilter = new ContactFilterPredicate(keywords("char"), "", "", ANY);
+        Predicate<Contact> indexedFilter = index.filter(plainFilter);
+        assertEquals(Collections.emptyList(), filtered(indexedFilter));
+
+        addAll(charlotte);
+        assertEquals(Collections.singletonList(charlotte), filtered(indexedFilter));
+
+        Contact renamedAlex = new ContactBuilder(alex).withId(alex.getId()).withName("Charles Yeoh").build();
+        index.set(alex, renamedAlex);
+        contacts.set(0, renamedAlex);
+        assertEquals(Arrays.asList(renamedAlex, charlotte), filtered(indexedFilter));
+
+        index.remove(charlotte);
+        contacts.remove(charlotte);
+        assertEquals(Collections.singletonList(renamedAlex), filtered(indexedFilter));
+    }
+
+    @Test
+    public void candidates_noNarrowingKeyword_returnsNull() {
+        addAll(alex);
+        assertNull(index.candidates(new ContactFilterPredicate(keywords("al", "yeoh"), "", "", ANY)));
+        assertNull(index.candidates(new ContactFilterPredicate(ANY, "", "", ANY)));
+    }
+
+    @Test
+    public void reset_entriesReplaced_rebuildsOnNextSearch() {
+        addAll(alex);
+        ContactFilterPredicate plainFilter = new ContactFilterPredicate(keywords("bernice"), "", "", ANY);
+        assertEquals(Collections.emptySet(), index.candidates(plainFilter));
+
+        index.reset();
+        contacts.clear();
+        contacts.add(bernice);
+        assertEquals(Collections.singleton(bernice.getId()), index.candidates(plainFilter));
+    }
+
+    @Test
+    public void filter_timeRange_matchesPlainFilter() {
+        List<Meeting> meetings = new ArrayList<>();
+        SearchIndex<Meeting, MeetingField> meetingIndex = new SearchIndex<>(MeetingField.class, Meeting::getId,
+            meeting -> meeting.getTime().toEpochMinute(), meetings);
+        for (String time : Arrays.asList("01/10/2023 09:00", "02/10/2023 09:00", "03/10/2023 09:00")) {
+            Meeting meeting = new MeetingBuilder().withTime(time).build();
+            meetingIndex.add(meeting);
+            meetings.add(meeting);
+        }
+
+        MeetingFilterPredicate plainFilter = new MeetingFilterPredicate(ANY, new Time("02/10/2023 09:00"), null,
+            ANY, ANY, ANY);
+        assertEquals(Set.of(meetings.get(1).getId(), meetings.get(2).getId()), meetingIndex.candidates(plainFilter));
+        assertEquals(meetings.subList(1, 3),
+            meetings.stream().filter(meetingIndex.filter(plainFilter)).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void precompute_entriesChangedAfterwards_staysEquivalent() {
+        addAll(alex, bernice, charlotte);
+        ContactFilterPredicate plainFilter = new ContactFilterPredicate(ANY, "", "", keywords("coffee"));
+        Predicate<Contact> precomputedFilter = index.precompute(index.filter(plainFilter), 0);
+        assertEquals(Arrays.asList(alex, charlotte), filtered(precomputedFilter));
+
+        Contact editedBernice = new ContactBuilder(bernice).withId(bernice.getId()).withNotes("Coffee").build();
+        index.set(bernice, editedBernice);
+        contacts.set(1, editedBernice);
+        assertEquals(Arrays.asList(alex, editedBernice, charlotte), filtered(precomputedFilter));
+    }
+
+    @Test
+    public void precompute_manyEntriesInAnyOrder_matchesPlainFilter() {
+        for (int i = 0; i < 150; i++) {
+            addAll(new ContactBuilder().withName("Person " + i).withNotes(i % 3 == 0 ? "Coffee" : "Tea").build());
+        }
+        ContactFilterPredicate plainFilter = new ContactFilterPredicate(ANY, "", "", keywords("coffee"));
+        Predicate<Contact> precomputedFilter = index.precompute(plainFilter, 0);
+        assertEquals(filtered(plainFilter), filtered(precomputedFilter));
+
+        List<Contact> reversed = new ArrayList<>(contacts);
+        Collections.reverse(reversed);
+        assertEquals(reversed.stream().filter(plainFilter).collect(Collectors.toList()),
+            reversed.stream().filter(precomputedFilter).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void precompute_belowThreshold_returnsPredicate() {
+        addAll(alex);
+        Predicate<Contact> predicate = contact -> true;
+        assertSame(predicate, index.precompute(predicate, 2));
+    }
+
+    @Test
+    public void rank_misspeltQuery_returnsMostSimilarFirst() {
+        Contact annSmith = new ContactBuilder().withName("Ann Smith").build();
+        Contact johnSmith = new ContactBuilder().withName("John Smith").build();
+        addAll(alex, annSmith, bernice, johnSmith);
+
+        assertEquals(Arrays.asList(johnSmith, annSmith), index.rank("Jon Smiht", contact -> true, 10));
+        assertEquals(Collections.singletonList(johnSmith), index.rank("Jon Smiht", contact -> true, 1));
+        assertEquals(Collections.singletonList(annSmith), index.rank("Jon Smiht", contact -> contact != johnSmith,
+            10));
+    }
+
+    private static KeywordMatcher keywords(String... keywords) {
+        return KeywordMatcher.compile(Arrays.asList(keywords));
+    }
+
+    private void addAll(Contact... toAdd) {
+        for (Contact contact : toAdd) {
+            index.add(contact);
+            contacts.add(contact);
+        }
+    }
+
+    private List<Contact> filtered(Predicate<Contact> predicate) {
+        return contacts.stream().filter(predicate).collect(Collectors.toList());
+    }
+
+    private void assertSameMatches(ContactFilterPredicate plainFilter) {
+        assertEquals(filtered(plainFilter), filtered(index.filter(plainFilter)));
+    }
+
+}
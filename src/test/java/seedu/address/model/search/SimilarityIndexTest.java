@@ -0,0 +1,39 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class SimilarityIndexTest {
+
+    private final SimilarityIndex index = new SimilarityIndex();
+
+    @Test
+    public void similarities_misspeltQuery_mostSimilarTextScoresHighest() {
+        index.add(1, "John Smith");
+        index.add(2, "Ann Smith");
+        index.add(3, "Bernice Yu");
+        Map<Long, Double> similarities = index.similarities("Jon Smiht");
+        assertTrue(similarities.get(1L) > similarities.get(2L));
+        assertFalse(similarities.containsKey(3L));
+    }
+
+    @Test
+    public void similarities_sameText_returnsOne() {
+        index.add(1, "Alex Yeoh");
+        assertEquals(1.0, index.similarities("alex  YEOH").get(1L));
+    }
+
+    @Test
+    public void remove_indexedText_noLongerSimilar() {
+        index.add(1, "Alex Yeoh");
+        index.add(2, "Alex Tan");
+        index.remove(1, "Alex Yeoh");
+        assertEquals(Map.of(2L, 1.0), index.similarities("Alex Tan"));
+    }
+
+}
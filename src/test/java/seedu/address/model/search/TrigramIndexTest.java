@@ -0,0 +1,53 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+public class TrigramIndexTest {
+
+    private final TrigramIndex index = new TrigramIndex();
+
+    @Test
+    public void candidates_substringOfText_includesText() {
+        index.add(1, "Alex Yeoh");
+        index.add(2, "Bernice Yu");
+        index.add(3, "Charlotte Oliveiro");
+        assertEquals(Collections.singleton(1L), index.candidates("X YE"));
+        assertEquals(Collections.singleton(3L), index.candidates("LIVE"));
+    }
+
+    @Test
+    public void candidates_allTrigramsPresent_includesTextWithoutKeyword() {
+        index.add(1, "abcxbcd");
+        // Every trigram of the keyword occurs, so the text is a candidate that a substring test must rule out
+        assertEquals(Collections.singleton(1L), index.candidates("abcd"));
+    }
+
+    @Test
+    public void candidates_shortKeyword_returnsNull() {
+        index.add(1, "Alex Yeoh");
+        assertNull(index.candidates("al"));
+        assertNull(index.candidates(""));
+    }
+
+    @Test
+    public void candidates_unknownTrigram_returnsEmptySet() {
+        index.add(1, "Alex Yeoh");
+        assertTrue(index.candidates("xyz").isEmpty());
+    }
+
+    @Test
+    public void remove_indexedText_noLongerCandidate() {
+        index.add(1, "Alex Yeoh");
+        index.add(2, "Alex Tan");
+        index.remove(1, "Alex Yeoh");
+        assertEquals(Collections.singleton(2L), index.candidates("alex"));
+        assertTrue(index.candidates("yeoh").isEmpty());
+    }
+
+}
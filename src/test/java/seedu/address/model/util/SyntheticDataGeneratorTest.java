@@ -0,0 +1,57 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.meeting.Meeting;
+
+public class SyntheticDataGeneratorTest {
+
+    @Test
+    public void generate_negativeSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SyntheticDataGenerator(1).generate(-1, 0, 0));
+    }
+
+    @Test
+    public void generate_sameSeed_equalAddressBooks() {
+        assertEquals(new SyntheticDataGenerator(1).generate(500, 1000, 2),
+            new SyntheticDataGenerator(1).generate(500, 1000, 2));
+    }
+
+    @Test
+    public void generate_differentSeed_differentAddressBooks() {
+        assertNotEquals(new SyntheticDataGenerator(1).generate(500, 1000, 2),
+            new SyntheticDataGenerator(2).generate(500, 1000, 2));
+    }
+
+    @Test
+    public void generate_moreContactsThanNames_linksMeetingsToContactsInBook() {
+        AddressBook addressBook = new SyntheticDataGenerator(1).generate(5000, 10000, 1);
+
+        assertEquals(5000, addressBook.getContactList().size());
+        assertEquals(10000, addressBook.getMeetingList().size());
+        for (Meeting meeting : addressBook.getMeetingList()) {
+            assertFalse(meeting.getContacts().isEmpty());
+            for (Contact contact : meeting.getContacts()) {
+                assertTrue(addressBook.hasContact(contact));
+                assertTrue(addressBook.getMeetingsOf(contact).contains(meeting));
+            }
+        }
+    }
+
+    @Test
+    public void generate_noContacts_meetingsHaveNoContacts() {
+        AddressBook addressBook = new SyntheticDataGenerator(1).generate(0, 10, 0);
+
+        assertEquals(10, addressBook.getMeetingList().size());
+        addressBook.getMeetingList().forEach(meeting -> assertTrue(meeting.getContacts().isEmpty()));
+    }
+
+}
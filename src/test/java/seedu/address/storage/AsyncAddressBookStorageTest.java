@@ -0,0 +1,182 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAddressBook.ALICE;
+import static seedu.address.testutil.TypicalAddressBook.BENSON;
+import static seedu.address.testutil.TypicalAddressBook.CARL;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.ui.storage.AsyncAddressBookStorage;
+import seedu.address.ui.storage.JsonAddressBookStorage;
+
+public class AsyncAddressBookStorageTest {
+
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
+
+    @Test
+    public void constructor_nullStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AsyncAddressBookStorage(null));
+    }
+
+    @Test
+    public void saveAddressBookChanges_thenFlush_writesLatestAddressBook() {
+        RecordingStorage recorder = new RecordingStorage();
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(recorder);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addContact(ALICE);
+
+        storage.saveAddressBookChanges(addressBook, addressBook.getChanges());
+        storage.flush();
+
+        assertEquals(1, recorder.savedAddressBooks.size());
+        assertSameData(addressBook, recorder.savedAddressBooks.get(0));
+        assertEquals(addressBook.getChanges(), recorder.savedChanges.get(0));
+    }
+
+    @Test
+    public void saveAddressBookChanges_whileWriterBusy_coalescesSaves() throws Exception {
+        RecordingStorage recorder = new RecordingStorage();
+        recorder.gate = new CountDownLatch(1);
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(recorder);
+        AddressBook addressBook = new AddressBook();
+
+        // The first save occupies the writer until the gate opens; the next two queue up behind it
+        addressBook.addContact(ALICE);
+        storage.saveAddressBookChanges(addressBook, addressBook.getChanges());
+        recorder.started.await();
+        addressBook.clearChanges();
+        addressBook.addContact(BENSON);
+        storage.saveAddressBookChanges(addressBook, addressBook.getChanges());
+        addressBook.clearChanges();
+        addressBook.addContact(CARL);
+        storage.saveAddressBookChanges(addressBook, addressBook.getChanges());
+        recorder.gate.countDown();
+        storage.flush();
+
+        assertEquals(2, recorder.savedAddressBooks.size());
+        assertSameData(addressBook, recorder.savedAddressBooks.get(1));
+        assertEquals(Arrays.asList(AddressBookChange.contactAdded(BENSON), AddressBookChange.contactAdded(CARL)),
+            recorder.savedChanges.get(1));
+    }
+
+    @Test
+    public void saveAddressBookChanges_laterModelChanges_doNotAffectQueuedSave() {
+        RecordingStorage recorder = new RecordingStorage();
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(recorder);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addContact(ALICE);
+        AddressBook expected = new AddressBook(addressBook);
+
+        storage.saveAddressBookChanges(addressBook, addressBook.getChanges());
+        addressBook.addContact(BENSON);
+        storage.flush();
+
+        assertSameData(expected, recorder.savedAddressBooks.get(0));
+    }
+
+    @Test
+    public void throwIfSaveFailed_afterFailedSave_throwsOnceAndRetriesWithNextSave() throws Exception {
+        RecordingStorage recorder = new RecordingStorage();
+        recorder.failuresLeft = 1;
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(recorder);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addContact(ALICE);
+        List<AddressBookChange> firstChanges = addressBook.getChanges();
+
+        storage.saveAddressBookChanges(addressBook, firstChanges);
+        storage.flush();
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), storage::throwIfSaveFailed);
+        storage.throwIfSaveFailed();
+
+        addressBook.clearChanges();
+        addressBook.addContact(BENSON);
+        storage.saveAddressBookChanges(addressBook, addressBook.getChanges());
+        storage.flush();
+
+        assertEquals(1, recorder.savedAddressBooks.size());
+        assertEquals(Arrays.asList(AddressBookChange.contactAdded(ALICE), AddressBookChange.contactAdded(BENSON)),
+            recorder.savedChanges.get(0));
+    }
+
+    @Test
+    public void close_writesQueuedSaveAndClosesStorage() throws Exception {
+        RecordingStorage recorder = new RecordingStorage();
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(recorder);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addContact(ALICE);
+
+        storage.saveAddressBookChanges(addressBook, addressBook.getChanges());
+        storage.close();
+
+        assertSameData(addressBook, recorder.savedAddressBooks.get(0));
+        assertTrue(recorder.isClosed);
+    }
+
+    /**
+     * Asserts that {@code actual} holds the same contacts and meetings as {@code expected}.
+     */
+    private static void assertSameData(ReadOnlyAddressBook expected, ReadOnlyAddressBook actual) {
+        assertEquals(expected.getContactList(), actual.getContactList());
+        assertEquals(expected.getMeetingList(), actual.getMeetingList());
+    }
+
+    /**
+     * A storage that records what it is asked to save instead of writing it.
+     */
+    private static class RecordingStorage extends JsonAddressBookStorage {
+        private final List<ReadOnlyAddressBook> savedAddressBooks = new ArrayList<>();
+        private final List<List<AddressBookChange>> savedChanges = new ArrayList<>();
+        private final CountDownLatch started = new CountDownLatch(1);
+        private CountDownLatch gate;
+        private int failuresLeft;
+        private boolean isClosed;
+
+        RecordingStorage() {
+            super(Paths.get("unused.json"));
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+            throw new AssertionError("Only saveAddressBookChanges should be called");
+        }
+
+        @Override
+        public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, List<AddressBookChange> changes)
+                throws IOException {
+            started.countDown();
+            if (gate != null) {
+                try {
+                    gate.await();
+                } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+            }
+            if (failuresLeft > 0) {
+                failuresLeft--;
+                throw DUMMY_IO_EXCEPTION;
+            }
+            savedAddressBooks.add(addressBook);
+            savedChanges.add(changes);
+        }
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+    }
+
+}
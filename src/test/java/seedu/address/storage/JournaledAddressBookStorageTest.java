@@ -0,0 +1,202 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAddressBook.ALICE;
+import static seedu.address.testutil.TypicalAddressBook.BENSON;
+import static seedu.address.testutil.TypicalAddressBook.CS2103;
+import static seedu.address.testutil.TypicalAddressBook.HOON;
+import static seedu.address.testutil.TypicalAddressBook.IDA;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.contact.Contact;
+import seedu.address.testutil.ContactBuilder;
+import seedu.address.testutil.MeetingBuilder;
+import seedu.address.ui.storage.JournaledAddressBookStorage;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private ReadOnlyAddressBook readAddressBook(Path filePath) throws Exception {
+        return new JournaledAddressBookStorage(filePath, false).readAddressBook().get();
+    }
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+            new JournaledAddressBookStorage(testFolder.resolve("data.json"), false).readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournaledAddressBookStorage(testFolder.resolve("missing.json"), false)
+            .readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBookChanges_thenRead_replaysJournal() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, false);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.clearChanges();
+
+        original.addContact(HOON);
+        original.removeContact(BENSON);
+        Contact editedAlice = new ContactBuilder(ALICE).withPhone("91234567").build();
+        original.setContact(ALICE, editedAlice);
+        original.setMeeting(CS2103, new MeetingBuilder(CS2103).withPlace("Library").build());
+        storage.saveAddressBookChanges(original, original.getChanges());
+        original.clearChanges();
+        storage.close();
+
+        assertTrue(Files.exists(filePath.resolveSibling("data.json.journal.1")));
+        assertEquals(original, readAddressBook(filePath));
+    }
+
+    @Test
+    public void saveAddressBookChanges_reset_rewritesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, false);
+        AddressBook original = new AddressBook();
+        original.addContact(IDA);
+        storage.saveAddressBookChanges(original, original.getChanges());
+
+        original.resetData(getTypicalAddressBook());
+        storage.saveAddressBookChanges(original, original.getChanges());
+        storage.close();
+
+        assertFalse(Files.exists(filePath.resolveSibling("data.json.journal.0")));
+        assertEquals(original, readAddressBook(filePath));
+    }
+
+    @Test
+    public void saveAddressBookChanges_pastCompactionThreshold_compactsJournals() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, false, 1, 2);
+        AddressBook original = new AddressBook();
+        for (Contact contact : new Contact[] {ALICE, BENSON, HOON, IDA}) {
+            original.addContact(contact);
+            storage.saveAddressBookChanges(original, original.getChanges());
+            original.clearChanges();
+        }
+        storage.close();
+
+        assertTrue(Files.exists(filePath));
+        assertFalse(Files.exists(filePath.resolveSibling("data.json.journal.0")));
+        assertEquals(original, readAddressBook(filePath));
+    }
+
+    @Test
+    public void readAddressBook_tornLastRecord_ignored() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, false);
+        AddressBook original = new AddressBook();
+        original.addContact(ALICE);
+        storage.saveAddressBookChanges(original, original.getChanges());
+        storage.close();
+
+        Files.write(filePath.resolveSibling("data.json.journal.0"),
+            "{\"type\":\"CONTACT_ADDED\",\"contact\":{\"na".getBytes(StandardCharsets.UTF_8),
+            StandardOpenOption.APPEND);
+
+        assertEquals(original, readAddressBook(filePath));
+    }
+
+    @Test
+    public void readAddressBook_tornRecordInOlderGeneration_ignored() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        Path tornJournalPath = filePath.resolveSibling("data.json.journal.1");
+        AddressBook original = new AddressBook();
+        original.addContact(ALICE);
+
+        // first session leaves a torn record after a snapshot and one append
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, false);
+        storage.saveAddressBook(original);
+        original.clearChanges();
+        original.addContact(BENSON);
+        storage.saveAddressBookChanges(original, original.getChanges());
+        original.clearChanges();
+        storage.close();
+        long completeLength = Files.size(tornJournalPath);
+        Files.write(tornJournalPath, "{\"type\":\"CONTACT_ADDED\",\"contact\":{\"na".getBytes(StandardCharsets.UTF_8),
+            StandardOpenOption.APPEND);
+
+        // second session appends to a newer generation
+        storage = new JournaledAddressBookStorage(filePath, false);
+        assertEquals(original, storage.readAddressBook().get());
+        assertEquals(completeLength, Files.size(tornJournalPath));
+        original.addContact(HOON);
+        storage.saveAddressBookChanges(original, original.getChanges());
+        storage.close();
+
+        // third session still loads everything
+        assertTrue(Files.exists(filePath.resolveSibling("data.json.journal.2")));
+        assertEquals(original, readAddressBook(filePath));
+
+        // a torn record left in an older generation by an earlier version is skipped too
+        Files.write(tornJournalPath, "{\"type\":\"CONTACT_".getBytes(StandardCharsets.UTF_8),
+            StandardOpenOption.APPEND);
+        assertEquals(original, readAddressBook(filePath));
+    }
+
+    @Test
+    public void saveAddressBookChanges_appendFailsPartway_retryLeavesReadableJournal() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        FailingJournaledStorage storage = new FailingJournaledStorage(filePath);
+        AddressBook original = new AddressBook();
+        original.addContact(ALICE);
+        storage.saveAddressBookChanges(original, original.getChanges());
+        original.clearChanges();
+
+        original.addContact(BENSON);
+        storage.failuresLeft = 1;
+        assertThrows(IOException.class, () -> storage.saveAddressBookChanges(original, original.getChanges()));
+        original.addContact(HOON);
+        storage.saveAddressBookChanges(original, original.getChanges());
+        storage.close();
+
+        assertEquals(original, readAddressBook(filePath));
+    }
+
+    /**
+     * A journaled storage whose appends write half their records and then fail, while {@code failuresLeft} is
+     * positive.
+     */
+    private static class FailingJournaledStorage extends JournaledAddressBookStorage {
+        private int failuresLeft;
+
+        FailingJournaledStorage(Path filePath) {
+            super(filePath, false);
+        }
+
+        @Override
+        protected void write(FileChannel journal, ByteBuffer buffer) throws IOException {
+            if (failuresLeft > 0) {
+                failuresLeft--;
+                buffer.limit(buffer.limit() / 2);
+                super.write(journal, buffer);
+                throw new IOException("No space left on device");
+            }
+            super.write(journal, buffer);
+        }
+    }
+
+}
@@ -5,7 +5,6 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalAddressBook.BENSON;
 import static seedu.address.ui.storage.JsonAdaptedContact.MISSING_FIELD_MESSAGE_FORMAT;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -16,7 +15,6 @@ import seedu.address.model.contact.Email;
 import seedu.address.model.contact.Name;
 import seedu.address.model.contact.Phone;
 import seedu.address.ui.storage.JsonAdaptedContact;
-import seedu.address.ui.storage.JsonAdaptedMeeting;
 import seedu.address.ui.storage.JsonAdaptedNote;
 
 public class JsonAdaptedContactTest {
@@ -30,7 +28,6 @@ public class JsonAdaptedContactTest {
     private static final List<JsonAdaptedNote> VALID_NOTE = BENSON.getNotes().stream()
         .map(JsonAdaptedNote::new)
         .collect(Collectors.toList());
-    private static final ArrayList<JsonAdaptedMeeting> VALID_OBSERVERS = new ArrayList<JsonAdaptedMeeting>();
 
     @Test
     public void toModelType_validContactDetails_returnsContact() throws Exception {
@@ -38,18 +35,31 @@ public class JsonAdaptedContactTest {
         assertEquals(BENSON, contact.toModelType());
     }
 
+    @Test
+    public void toModelType_validContactDetails_keepsId() throws Exception {
+        JsonAdaptedContact contact = new JsonAdaptedContact(BENSON);
+        assertEquals(BENSON.getId(), contact.toModelType().getId());
+    }
+
+    @Test
+    public void toModelType_invalidId_throwsIllegalValueException() {
+        JsonAdaptedContact contact =
+            new JsonAdaptedContact(-1L, VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_NOTE);
+        String expectedMessage = JsonAdaptedContact.INVALID_ID_MESSAGE;
+        assertThrows(IllegalValueException.class, expectedMessage, contact::toModelType);
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedContact contact =
-            new JsonAdaptedContact(INVALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_NOTE, VALID_OBSERVERS);
+            new JsonAdaptedContact(INVALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_NOTE);
         String expectedMessage = Name.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, contact::toModelType);
     }
 
     @Test
     public void toModelType_nullName_throwsIllegalValueException() {
-        JsonAdaptedContact contact = new JsonAdaptedContact(null, VALID_PHONE, VALID_EMAIL, VALID_NOTE,
-            VALID_OBSERVERS);
+        JsonAdaptedContact contact = new JsonAdaptedContact(null, VALID_PHONE, VALID_EMAIL, VALID_NOTE);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, contact::toModelType);
     }
@@ -57,14 +67,14 @@ public class JsonAdaptedContactTest {
     @Test
     public void toModelType_invalidPhone_throwsIllegalValueException() {
         JsonAdaptedContact contact =
-            new JsonAdaptedContact(VALID_NAME, INVALID_PHONE, VALID_EMAIL, VALID_NOTE, VALID_OBSERVERS);
+            new JsonAdaptedContact(VALID_NAME, INVALID_PHONE, VALID_EMAIL, VALID_NOTE);
         String expectedMessage = Phone.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, contact::toModelType);
     }
 
     @Test
     public void toModelType_nullPhone_throwsIllegalValueException() {
-        JsonAdaptedContact contact = new JsonAdaptedContact(VALID_NAME, null, VALID_EMAIL, VALID_NOTE, VALID_OBSERVERS);
+        JsonAdaptedContact contact = new JsonAdaptedContact(VALID_NAME, null, VALID_EMAIL, VALID_NOTE);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, contact::toModelType);
     }
@@ -72,14 +82,14 @@ public class JsonAdaptedContactTest {
     @Test
     public void toModelType_invalidEmail_throwsIllegalValueException() {
         JsonAdaptedContact contact =
-            new JsonAdaptedContact(VALID_NAME, VALID_PHONE, INVALID_EMAIL, VALID_NOTE, VALID_OBSERVERS);
+            new JsonAdaptedContact(VALID_NAME, VALID_PHONE, INVALID_EMAIL, VALID_NOTE);
         String expectedMessage = Email.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, contact::toModelType);
     }
 
     @Test
     public void toModelType_nullEmail_throwsIllegalValueException() {
-        JsonAdaptedContact contact = new JsonAdaptedContact(VALID_NAME, VALID_PHONE, null, VALID_NOTE, VALID_OBSERVERS);
+        JsonAdaptedContact contact = new JsonAdaptedContact(VALID_NAME, VALID_PHONE, null, VALID_NOTE);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, contact::toModelType);
     }
@@ -2,15 +2,20 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAddressBook.ALICE;
 import static seedu.address.testutil.TypicalAddressBook.CS2103;
 import static seedu.address.ui.storage.JsonAdaptedMeeting.MISSING_FIELD_MESSAGE_FORMAT;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.contact.Contact;
 import seedu.address.model.meeting.Description;
 import seedu.address.model.meeting.Place;
 import seedu.address.model.meeting.Time;
@@ -31,73 +36,111 @@ public class JsonAdaptedMeetingTest {
     private static final List<JsonAdaptedNote> VALID_NOTES = CS2103.getNotes().stream()
         .map(JsonAdaptedNote::new)
         .collect(Collectors.toList());
-    private static final List<JsonAdaptedContact> VALID_CONTACTS = CS2103.getContacts().stream()
-        .map(JsonAdaptedContact::new)
+    private static final Long VALID_ID = CS2103.getId();
+    private static final List<Long> VALID_CONTACTS = CS2103.getContacts().stream()
+        .map(Contact::getId)
         .collect(Collectors.toList());
+    private static final Map<Long, Contact> CONTACTS_BY_ID = Collections.emptyMap();
+    private static final Map<String, Contact> CONTACTS_BY_NAME = Collections.emptyMap();
 
     @Test
     public void toModelType_validMeetingDetails_returnsMeeting() throws Exception {
         JsonAdaptedMeeting meeting = new JsonAdaptedMeeting(CS2103);
-        assertEquals(CS2103, meeting.toModelType());
+        assertEquals(CS2103, meeting.toModelType(CONTACTS_BY_ID, CONTACTS_BY_NAME));
+    }
+
+    @Test
+    public void toModelType_validMeetingDetails_keepsId() throws Exception {
+        JsonAdaptedMeeting meeting = new JsonAdaptedMeeting(CS2103);
+        assertEquals(CS2103.getId(), meeting.toModelType(CONTACTS_BY_ID, CONTACTS_BY_NAME).getId());
+    }
+
+    @Test
+    public void toModelType_nestedContacts_resolvedByName() throws Exception {
+        String nestedMeeting = "{\"title\": \"CS2103 Meeting\", \"time\": \"01/01/2023 00:00\", \"place\": \"Zoom\", "
+            + "\"description\": \"\", \"contacts\": [" + JsonUtil.toJsonString(new JsonAdaptedContact(ALICE)) + "]}";
+        JsonAdaptedMeeting meeting = JsonUtil.fromJsonString(nestedMeeting, JsonAdaptedMeeting.class);
+        assertEquals(List.of(ALICE), meeting.toModelType(CONTACTS_BY_ID, Map.of(ALICE.getNameString(), ALICE))
+            .getContacts());
+    }
+
+    @Test
+    public void toModelType_invalidId_throwsIllegalValueException() {
+        JsonAdaptedMeeting meeting =
+            new JsonAdaptedMeeting(0L, VALID_TITLE, VALID_TIME, VALID_PLACE,
+                VALID_DESCRIPTION, VALID_NOTES, VALID_CONTACTS);
+        String expectedMessage = JsonAdaptedMeeting.INVALID_ID_MESSAGE;
+        assertThrows(IllegalValueException.class, expectedMessage, () ->
+            meeting.toModelType(CONTACTS_BY_ID, CONTACTS_BY_NAME));
     }
 
     @Test
     public void toModelType_invalidTitle_throwsIllegalValueException() {
         JsonAdaptedMeeting meeting =
-            new JsonAdaptedMeeting(INVALID_TITLE, VALID_TIME, VALID_PLACE,
+            new JsonAdaptedMeeting(VALID_ID, INVALID_TITLE, VALID_TIME, VALID_PLACE,
                 VALID_DESCRIPTION, VALID_NOTES, VALID_CONTACTS);
         String expectedMessage = Title.MESSAGE_CONSTRAINTS;
-        assertThrows(IllegalValueException.class, expectedMessage, meeting::toModelType);
+        assertThrows(IllegalValueException.class, expectedMessage, () ->
+            meeting.toModelType(CONTACTS_BY_ID, CONTACTS_BY_NAME));
     }
 
     @Test
     public void toModelType_nullTitle_throwsIllegalValueException() {
-        JsonAdaptedMeeting meeting = new JsonAdaptedMeeting(null, VALID_TIME, VALID_PLACE, VALID_DESCRIPTION,
+        JsonAdaptedMeeting meeting = new JsonAdaptedMeeting(VALID_ID, null, VALID_TIME, VALID_PLACE, VALID_DESCRIPTION,
             VALID_NOTES, VALID_CONTACTS);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Title.class.getSimpleName());
-        assertThrows(IllegalValueException.class, expectedMessage, meeting::toModelType);
+        assertThrows(IllegalValueException.class, expectedMessage, () ->
+            meeting.toModelType(CONTACTS_BY_ID, CONTACTS_BY_NAME));
     }
 
     @Test
     public void toModelType_invalidTime_throwsIllegalValueException() {
         JsonAdaptedMeeting meeting =
-            new JsonAdaptedMeeting(VALID_TITLE, INVALID_TIME, VALID_PLACE,
+            new JsonAdaptedMeeting(VALID_ID, VALID_TITLE, INVALID_TIME, VALID_PLACE,
                 VALID_DESCRIPTION, VALID_NOTES, VALID_CONTACTS);
         String expectedMessage = Time.MESSAGE_CONSTRAINTS;
-        assertThrows(IllegalValueException.class, expectedMessage, meeting::toModelType);
+        assertThrows(IllegalValueException.class, expectedMessage, () ->
+            meeting.toModelType(CONTACTS_BY_ID, CONTACTS_BY_NAME));
     }
 
     @Test
     public void toModelType_nullTime_throwsIllegalValueException() {
         JsonAdaptedMeeting meeting =
-            new JsonAdaptedMeeting(VALID_TITLE, null, VALID_PLACE, VALID_DESCRIPTION, VALID_NOTES, VALID_CONTACTS);
+            new JsonAdaptedMeeting(VALID_ID, VALID_TITLE, null, VALID_PLACE, VALID_DESCRIPTION, VALID_NOTES,
+                VALID_CONTACTS);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Time.class.getSimpleName());
-        assertThrows(IllegalValueException.class, expectedMessage, meeting::toModelType);
+        assertThrows(IllegalValueException.class, expectedMessage, () ->
+            meeting.toModelType(CONTACTS_BY_ID, CONTACTS_BY_NAME));
     }
 
     @Test
     public void toModelType_invalidPlace_throwsIllegalValueException() {
         JsonAdaptedMeeting meeting =
-            new JsonAdaptedMeeting(VALID_TITLE, VALID_TIME, INVALID_PLACE,
+            new JsonAdaptedMeeting(VALID_ID, VALID_TITLE, VALID_TIME, INVALID_PLACE,
                 VALID_DESCRIPTION, VALID_NOTES, VALID_CONTACTS);
         String expectedMessage = Place.MESSAGE_CONSTRAINTS;
-        assertThrows(IllegalValueException.class, expectedMessage, meeting::toModelType);
+        assertThrows(IllegalValueException.class, expectedMessage, () ->
+            meeting.toModelType(CONTACTS_BY_ID, CONTACTS_BY_NAME));
     }
 
     @Test
     public void toModelType_nullPlace_throwsIllegalValueException() {
         JsonAdaptedMeeting meeting =
-            new JsonAdaptedMeeting(VALID_TITLE, VALID_TIME, null, VALID_DESCRIPTION, VALID_NOTES, VALID_CONTACTS);
+            new JsonAdaptedMeeting(VALID_ID, VALID_TITLE, VALID_TIME, null, VALID_DESCRIPTION, VALID_NOTES,
+                VALID_CONTACTS);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Place.class.getSimpleName());
-        assertThrows(IllegalValueException.class, expectedMessage, meeting::toModelType);
+        assertThrows(IllegalValueException.class, expectedMessage, () ->
+            meeting.toModelType(CONTACTS_BY_ID, CONTACTS_BY_NAME));
     }
 
     @Test
     public void toModelType_nullDescription_throwsIllegalValueException() {
         JsonAdaptedMeeting meeting =
-            new JsonAdaptedMeeting(VALID_TITLE, VALID_TIME, VALID_PLACE, null, VALID_NOTES, VALID_CONTACTS);
+            new JsonAdaptedMeeting(VALID_ID, VALID_TITLE, VALID_TIME, VALID_PLACE, null, VALID_NOTES,
+                VALID_CONTACTS);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Description.class.getSimpleName());
-        assertThrows(IllegalValueException.class, expectedMessage, meeting::toModelType);
+        assertThrows(IllegalValueException.class, expectedMessage, () ->
+            meeting.toModelType(CONTACTS_BY_ID, CONTACTS_BY_NAME));
     }
 
 }
@@ -0,0 +1,153 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAddressBook.ALICE;
+import static seedu.address.testutil.TypicalAddressBook.CS2103;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.meeting.Meeting;
+import seedu.address.testutil.ContactBuilder;
+import seedu.address.testutil.MeetingBuilder;
+import seedu.address.testutil.TypicalAddressBook;
+import seedu.address.ui.storage.JsonAddressBookReader;
+import seedu.address.ui.storage.JsonAddressBookWriter;
+import seedu.address.ui.storage.JsonSerializableAddressBook;
+
+public class JsonAddressBookReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_AB_FILE = TEST_DATA_FOLDER.resolve("typicalAddressBook.json");
+    private static final Path INVALID_CONTACT_FILE = TEST_DATA_FOLDER.resolve("invalidContactAddressBook.json");
+    private static final Path DUPLICATE_CONTACT_FILE = TEST_DATA_FOLDER.resolve("duplicateContactAddressBook.json");
+    private static final Path LEGACY_NESTED_FILE = TEST_DATA_FOLDER.resolve("legacyNestedAddressBook.json");
+    private static final Path DUPLICATE_MEETING_FILE = TEST_DATA_FOLDER.resolve("duplicateMeetingAddressBook.json");
+    private static final Path NOT_JSON_FILE = Paths.get("src", "test", "data", "JsonAddressBookStorageTest",
+        "notJsonFormatAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_typicalAbFile_success() throws Exception {
+        AddressBook addressBookFromFile = JsonAddressBookReader.read(TYPICAL_AB_FILE);
+        assertEquals(TypicalAddressBook.getTypicalAddressBook(), addressBookFromFile);
+        assertEquals(Collections.emptyList(), addressBookFromFile.getChanges());
+    }
+
+    @Test
+    public void read_legacyNestedFile_linksMeetingsToContacts() throws Exception {
+        AddressBook addressBookFromFile = JsonAddressBookReader.read(LEGACY_NESTED_FILE);
+        Contact alice = addressBookFromFile.getContactList().get(0);
+        Meeting meeting = addressBookFromFile.getMeetingList().get(0);
+
+        assertSame(alice, meeting.getContacts().get(0));
+        assertEquals(Collections.singletonList(meeting), addressBookFromFile.getMeetingsOf(alice));
+        assertTrue(addressBookFromFile.getMeetingsOf(addressBookFromFile.getContactList().get(1)).isEmpty());
+    }
+
+    @Test
+    public void read_writtenLinkedAddressBook_storesContactsOnceAndRelinks() throws Exception {
+        Contact alice = new ContactBuilder(ALICE).build();
+        Meeting meeting = new MeetingBuilder(CS2103).withContacts(alice).build();
+        AddressBook original = new AddressBook();
+        original.addContact(alice);
+        original.addMeeting(meeting);
+        Path file = testFolder.resolve("linked.json");
+        JsonAddressBookWriter.write(original, file, false);
+
+        String json = FileUtil.readFromFile(file);
+        assertEquals(json.indexOf(ALICE.getPhone().value), json.lastIndexOf(ALICE.getPhone().value));
+
+        AddressBook readBack = JsonAddressBookReader.read(file);
+        assertEquals(original, readBack);
+        assertSame(readBack.getContactList().get(0), readBack.getMeetingList().get(0).getContacts().get(0));
+    }
+
+    @Test
+    public void read_writtenAddressBook_keepsIdsAndLinksRenamedContact() throws Exception {
+        Contact alice = new ContactBuilder(ALICE).build();
+        Meeting meeting = new MeetingBuilder(CS2103).withContacts(alice).build();
+        Contact renamedAlice = new ContactBuilder(alice).withId(alice.getId()).withName("Alicia Pauline").build();
+        AddressBook original = new AddressBook();
+        original.addContact(alice);
+        original.addMeeting(meeting);
+        original.setContact(alice, renamedAlice);
+        Path file = testFolder.resolve("renamed.json");
+        JsonAddressBookWriter.write(original, file, false);
+
+        AddressBook readBack = JsonAddressBookReader.read(file);
+        Contact readContact = readBack.getContactList().get(0);
+        Meeting readMeeting = readBack.getMeetingList().get(0);
+        assertEquals(alice.getId(), readContact.getId());
+        assertEquals(meeting.getId(), readMeeting.getId());
+        assertSame(readContact, readMeeting.getContacts().get(0));
+        assertEquals(renamedAlice.getName(), readMeeting.getContacts().get(0).getName());
+    }
+
+    @Test
+    public void read_meetingWithMissingContact_dropsReference() throws Exception {
+        Path file = testFolder.resolve("missingContact.json");
+        FileUtil.writeToFile(file, "{\"contacts\": [], \"meetings\": [{\"title\": \"CS2103 Meeting\", "
+            + "\"time\": \"01/01/2023 00:00\", \"place\": \"Zoom\", \"description\": \"\", "
+            + "\"contactIds\": [42]}]}");
+        assertTrue(JsonAddressBookReader.read(file).getMeetingList().get(0).getContacts().isEmpty());
+    }
+
+    @Test
+    public void read_invalidContactFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> JsonAddressBookReader.read(INVALID_CONTACT_FILE));
+    }
+
+    @Test
+    public void read_duplicateContacts_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_CONTACT, () ->
+            JsonAddressBookReader.read(DUPLICATE_CONTACT_FILE));
+    }
+
+    @Test
+    public void read_duplicateMeetings_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_MEETING, () ->
+            JsonAddressBookReader.read(DUPLICATE_MEETING_FILE));
+    }
+
+    @Test
+    public void read_notJsonFormat_throwsIoException() {
+        assertThrows(IOException.class, () -> JsonAddressBookReader.read(NOT_JSON_FILE));
+    }
+
+    @Test
+    public void read_emptyFile_throwsIoException() throws Exception {
+        Path emptyFile = testFolder.resolve("empty.json");
+        FileUtil.createFile(emptyFile);
+        assertThrows(IOException.class, () -> JsonAddressBookReader.read(emptyFile));
+    }
+
+    @Test
+    public void read_nonArrayContacts_throwsIoException() throws Exception {
+        Path file = testFolder.resolve("nonArray.json");
+        FileUtil.writeToFile(file, "{ \"contacts\" : \"Alice\" }");
+        assertThrows(IOException.class, () -> JsonAddressBookReader.read(file));
+    }
+
+    @Test
+    public void read_nullLists_returnsEmptyAddressBook() throws Exception {
+        Path file = testFolder.resolve("nullLists.json");
+        FileUtil.writeToFile(file, "{ \"contacts\" : null, \"meetings\" : null }");
+        assertEquals(new AddressBook(), JsonAddressBookReader.read(file));
+    }
+
+}
@@ -2,22 +2,28 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.SyntheticAddressBook.getSyntheticAddressBook;
 import static seedu.address.testutil.TypicalAddressBook.ALICE;
 import static seedu.address.testutil.TypicalAddressBook.HOON;
 import static seedu.address.testutil.TypicalAddressBook.IDA;
 import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.contact.Contact;
 import seedu.address.ui.storage.JsonAddressBookStorage;
 
 public class JsonAddressBookStorageTest {
@@ -87,6 +93,56 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAndSaveAddressBook_largeAddressBook_success() throws Exception {
+        Path filePath = testFolder.resolve("LargeAddressBook.json");
+        AddressBook original = getSyntheticAddressBook(10_000, 20_000);
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, false);
+
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_existingFile_keepsBackups() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, false, 2);
+        AddressBook original = new AddressBook();
+        for (Contact contact : Arrays.asList(ALICE, HOON, IDA)) {
+            original.addContact(contact);
+            jsonAddressBookStorage.saveAddressBook(original);
+        }
+
+        assertTrue(Files.exists(testFolder.resolve("TempAddressBook.json.bak.1")));
+        assertTrue(Files.exists(testFolder.resolve("TempAddressBook.json.bak.2")));
+        assertFalse(Files.exists(testFolder.resolve("TempAddressBook.json.bak.3")));
+    }
+
+    @Test
+    public void readAddressBook_corruptedFile_fallsBackToNewestBackup() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, false, 2);
+        AddressBook original = new AddressBook();
+        original.addContact(ALICE);
+        jsonAddressBookStorage.saveAddressBook(original);
+        original.addContact(HOON);
+        jsonAddressBookStorage.saveAddressBook(original);
+        AddressBook newestBackup = new AddressBook(original);
+        original.addContact(IDA);
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        FileUtil.writeToFile(filePath, "{\"contacts\": [");
+        assertEquals(newestBackup, jsonAddressBookStorage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_corruptedFileAndBackups_throwDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        FileUtil.writeToFile(filePath, "{\"contacts\": [");
+        FileUtil.writeToFile(testFolder.resolve("TempAddressBook.json.bak.1"), "not json");
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
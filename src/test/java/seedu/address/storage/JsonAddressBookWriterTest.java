@@ -0,0 +1,52 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.ui.storage.JsonAddressBookReader;
+import seedu.address.ui.storage.JsonAddressBookWriter;
+import seedu.address.ui.storage.JsonSerializableAddressBook;
+
+public class JsonAddressBookWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void write_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+            JsonAddressBookWriter.write((ReadOnlyAddressBook) null, testFolder.resolve("null.json"), true));
+    }
+
+    @Test
+    public void write_prettyPrinted_matchesSerializedAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("pretty.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookWriter.write(original, filePath, true);
+
+        String expected = JsonUtil.toJsonString(new JsonSerializableAddressBook(original));
+        assertEquals(expected, FileUtil.readFromFile(filePath));
+    }
+
+    @Test
+    public void write_compact_readsBackSameAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("compact.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookWriter.write(original, filePath, false);
+
+        assertFalse(FileUtil.readFromFile(filePath).contains("\n"));
+        assertEquals(original, JsonAddressBookReader.read(filePath));
+    }
+
+}
@@ -7,7 +7,6 @@ import seedu.address.model.contact.Contact;
 import seedu.address.model.contact.Email;
 import seedu.address.model.contact.Name;
 import seedu.address.model.contact.Phone;
-import seedu.address.model.meeting.Meeting;
 import seedu.address.model.note.Note;
 import seedu.address.model.util.SampleDataUtil;
 
@@ -21,11 +20,11 @@ public class ContactBuilder {
     public static final String DEFAULT_EMAIL = "amy@gmail.com";
     public static final String DEFAULT_NOTE = "Some note";
 
+    private Long id;
     private Name name;
     private Phone phone;
     private Email email;
     private List<Note> notes;
-    private ArrayList<Meeting> observerList;
 
     /**
      * Creates a {@code ContactBuilder} with the default details.
@@ -35,7 +34,6 @@ public class ContactBuilder {
         phone = new Phone(DEFAULT_PHONE);
         email = new Email(DEFAULT_EMAIL);
         notes = new ArrayList<>();
-        observerList = new ArrayList<>();
     }
 
     /**
@@ -46,7 +44,14 @@ public class ContactBuilder {
         phone = contactToCopy.getPhone();
         email = contactToCopy.getEmail();
         notes = new ArrayList<>(contactToCopy.getNotes());
-        observerList = new ArrayList<>(contactToCopy.getObservers());
+    }
+
+    /**
+     * Sets the ID of the {@code Contact} that we are building. Without it, the contact is given a new ID.
+     */
+    public ContactBuilder withId(long id) {
+        this.id = id;
+        return this;
     }
 
     /**
@@ -82,8 +87,13 @@ public class ContactBuilder {
     }
 
 
+    /**
+     * Returns the {@code Contact} built with the details set so far.
+     */
     public Contact build() {
-        return new Contact(name, phone, email, notes, new ArrayList<Meeting>());
+        return id == null
+            ? new Contact(name, phone, email, notes)
+            : new Contact(id, name, phone, email, notes);
     }
 
 }
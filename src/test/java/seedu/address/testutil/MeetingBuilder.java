@@ -26,6 +26,8 @@ public class MeetingBuilder {
 
     public static final String DEFAULT_DESCRIPTION = "No description";
 
+    private Long id;
+
     private Title title;
 
     private Time time;
@@ -60,6 +62,14 @@ public class MeetingBuilder {
         contacts = new ArrayList<>(meetingToCopy.getContacts());
     }
 
+    /**
+     * Sets the ID of the {@code Meeting} that we are building. Without it, the meeting is given a new ID.
+     */
+    public MeetingBuilder withId(long id) {
+        this.id = id;
+        return this;
+    }
+
     /**
      * Sets the {@code Title} of the {@code Meeting} that we are building.
      */
@@ -108,7 +118,12 @@ public class MeetingBuilder {
         return this;
     }
 
+    /**
+     * Returns the {@code Meeting} built with the details set so far.
+     */
     public Meeting build() {
-        return new Meeting(title, time, place, description, notes, contacts);
+        return id == null
+            ? new Meeting(title, time, place, description, notes, contacts)
+            : new Meeting(id, title, time, place, description, notes, contacts);
     }
 }
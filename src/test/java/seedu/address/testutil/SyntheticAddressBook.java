@@ -0,0 +1,24 @@
+package seedu.address.testutil;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.util.SyntheticDataGenerator;
+
+/**
+ * A utility class that provides large address books, generated with a fixed seed, for capacity tests.
+ */
+public class SyntheticAddressBook {
+
+    public static final int MEAN_NOTES = 1;
+
+    private SyntheticAddressBook() {} // prevents instantiation
+
+    /**
+     * Returns an {@code AddressBook} with {@code contactCount} contacts and {@code meetingCount} meetings, which is
+     * the same every time it is called with the same sizes.
+     */
+    public static AddressBook getSyntheticAddressBook(int contactCount, int meetingCount) {
+        return new SyntheticDataGenerator(SyntheticDataGenerator.DEFAULT_SEED)
+            .generate(contactCount, meetingCount, MEAN_NOTES);
+    }
+
+}
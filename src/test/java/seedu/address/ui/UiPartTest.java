@@ -6,6 +6,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.net.URL;
 import java.nio.file.Path;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -75,6 +76,13 @@ public class UiPartTest {
         assertThrows(AssertionError.class, () -> new TestUiPart<Object>(INVALID_FILE_PATH, new Object()));
     }
 
+    @Test
+    public void preload_missingAndInvalidFileNames_skipped() {
+        UiPart.preload(List.of(MISSING_FILE_PATH, INVALID_FILE_PATH, VALID_FILE_PATH));
+        assertEquals(VALID_FILE_ROOT, new TestUiPart<TestFxmlObject>(VALID_FILE_PATH).getRoot());
+        assertThrows(AssertionError.class, () -> new TestUiPart<Object>(INVALID_FILE_PATH));
+    }
+
     private URL getTestFileUrl(String testFilePath) {
         String testFilePathInView = "/view/" + testFilePath;
         URL testFileUrl = MainApp.class.getResource(testFilePathInView);